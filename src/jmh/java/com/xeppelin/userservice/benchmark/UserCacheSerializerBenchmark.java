@@ -0,0 +1,82 @@
+package com.xeppelin.userservice.benchmark;
+
+import com.xeppelin.userservice.domain.model.Address;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.codec.CompactUserRedisSerializer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Compares the value serializers available for the user caches.
+ * Run with {@code ./gradlew jmh}; the encoded size of each codec is logged once per trial and
+ * allocation rates are reported by the {@code gc} profiler configured in the build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserCacheSerializerBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCacheSerializerBenchmark.class);
+
+    @Param({"json", "binary"})
+    private String codec;
+
+    private RedisSerializer<Object> serializer;
+
+    private User user;
+
+    private byte[] encodedUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = "binary".equals(codec)
+            ? new CompactUserRedisSerializer(new GenericJackson2JsonRedisSerializer())
+            : new GenericJackson2JsonRedisSerializer();
+
+        user = User.builder()
+            .id(UUID.randomUUID())
+            .name("Maria Rodriguez")
+            .email("maria.rodriguez@xeppelin.com")
+            .role(UserRole.ORGANIZER)
+            .status(UserStatus.ACTIVE)
+            .address(Address.builder()
+                .id(UUID.randomUUID())
+                .line1("321 Conference Blvd")
+                .line2("Unit 25")
+                .city("Miami")
+                .state("FL")
+                .postalCode("33101")
+                .country("USA")
+                .phoneNumber("+1-555-0104")
+                .build())
+            .build();
+
+        encodedUser = serializer.serialize(user);
+        log.info("[{}] encoded user size: {} bytes", codec, encodedUser.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(user);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encodedUser);
+    }
+}
@@ -0,0 +1,128 @@
+package com.xeppelin.userservice.benchmark;
+
+import com.xeppelin.userservice.domain.service.IdGenerator;
+import com.xeppelin.userservice.domain.service.impl.UuidV7Generator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares random (version 4) and time-ordered (version 7) user identifiers when inserting into a
+ * {@code users} table that already holds {@code preloadedUsers} rows, against a Postgres container
+ * migrated with the application schema.
+ * Run with {@code ./gradlew jmh}. Throughput is reported in users inserted per second; the sizes of
+ * the table and of {@code users_pkey} are logged at the end of each trial, where random identifiers
+ * show a primary key index left larger by page splits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserIdInsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(UserIdInsertBenchmark.class);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT = "INSERT INTO users (id, name, email, role, status) VALUES (?, ?, ?, 'ATTENDEE', 'ACTIVE')";
+
+    private static final String SIZES = """
+        SELECT pg_size_pretty(pg_relation_size('users')), pg_size_pretty(pg_relation_size('users_pkey')),
+               (SELECT count(*) FROM users)
+        """;
+
+    @Param({"random", "v7"})
+    private String ids;
+
+    @Param({"10000000"})
+    private int preloadedUsers;
+
+    private PostgreSQLContainer<?> postgresContainer;
+
+    private Connection connection;
+
+    private IdGenerator idGenerator;
+
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+        postgresContainer.start();
+        Flyway.configure()
+            .dataSource(postgresContainer.getJdbcUrl(), postgresContainer.getUsername(), postgresContainer.getPassword())
+            .load()
+            .migrate();
+
+        connection = DriverManager.getConnection(postgresContainer.getJdbcUrl() + "&reWriteBatchedInserts=true",
+            postgresContainer.getUsername(), postgresContainer.getPassword());
+        idGenerator = "v7".equals(ids) ? new UuidV7Generator() : UUID::randomUUID;
+
+        // Preload through COPY so that the measured inserts hit an index of realistic size
+        var copy = "COPY users (id, name, email, role, status) FROM STDIN";
+        try (var writer = new BufferedWriter(new OutputStreamWriter(
+            new PGCopyOutputStream(connection.unwrap(PGConnection.class), copy, 64 * 1024), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < preloadedUsers; i++) {
+                var n = next++;
+                writer.write(idGenerator.nextId() + "\tBenchmark User " + n + "\tuser" + n + "@bench.xeppelin.com\tATTENDEE\tACTIVE\n");
+            }
+        }
+        try (var statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE users");
+        }
+        logSizes("after preload");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        logSizes("after benchmark");
+        connection.close();
+        postgresContainer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        try (var statement = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                var n = next++;
+                statement.setObject(1, idGenerator.nextId());
+                statement.setString(2, "Benchmark User " + n);
+                statement.setString(3, "user" + n + "@bench.xeppelin.com");
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        }
+    }
+
+    private void logSizes(String moment) throws SQLException {
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(SIZES)) {
+            resultSet.next();
+            log.info("[{} ids, {}] users: {} rows, table {}, users_pkey {}",
+                ids, moment, resultSet.getLong(3), resultSet.getString(1), resultSet.getString(2));
+        }
+    }
+}
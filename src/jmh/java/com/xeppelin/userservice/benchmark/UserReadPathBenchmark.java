@@ -0,0 +1,176 @@
+package com.xeppelin.userservice.benchmark;
+
+import com.xeppelin.userservice.UserServiceApplication;
+import com.xeppelin.userservice.application.port.output.UserRepository;
+import com.xeppelin.userservice.domain.model.Address;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.entity.UserEntity;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.mapper.PersistenceMapper;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.hibernate.jpa.SpecHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares the entity read path (load {@code UserEntity}, map it to {@link User}) with the
+ * projection path used by the persistence adapter, against a Postgres container.
+ * Run with {@code ./gradlew jmh}; allocation per operation is reported by the {@code gc} profiler
+ * configured in the build. Both paths run in a read-only transaction, as the application service does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserReadPathBenchmark {
+
+    private static final int USERS = 1_000;
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"entity", "projection"})
+    private String path;
+
+    private PostgreSQLContainer<?> postgresContainer;
+
+    private GenericContainer<?> redisContainer;
+
+    private ConfigurableApplicationContext context;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private UserJpaRepository userJpaRepository;
+
+    private EntityManager entityManager;
+
+    private PersistenceMapper persistenceMapper;
+
+    private UserRepository userRepository;
+
+    private List<UUID> userIds;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+        redisContainer = new GenericContainer<>(DockerImageName.parse("redis:latest")).withExposedPorts(6379);
+        postgresContainer.start();
+        redisContainer.start();
+
+        context = new SpringApplicationBuilder(UserServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + postgresContainer.getJdbcUrl(),
+                "spring.datasource.username=" + postgresContainer.getUsername(),
+                "spring.datasource.password=" + postgresContainer.getPassword(),
+                "spring.data.redis.host=" + redisContainer.getHost(),
+                "spring.data.redis.port=" + redisContainer.getMappedPort(6379),
+                "xeppelin.cache.hot-keys.enabled=false",
+                "logging.level.root=WARN")
+            .run();
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        userJpaRepository = context.getBean(UserJpaRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        persistenceMapper = context.getBean(PersistenceMapper.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        var users = IntStream.range(0, USERS).mapToObj(UserReadPathBenchmark::user).toList();
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+            .executeWithoutResult(status -> userRepository.saveAll(users));
+        userIds = users.stream().map(User::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        redisContainer.stop();
+        postgresContainer.stop();
+    }
+
+    @Benchmark
+    public User findById() {
+        var id = userIds.get(next++ % USERS);
+        return readOnlyTransaction.execute(status -> "entity".equals(path)
+            ? userJpaRepository.findById(id).map(persistenceMapper::fromUserEntityToUser).orElseThrow()
+            : userRepository.findById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public Page<User> findPage() {
+        var pageable = PageRequest.of(next++ % (USERS / PAGE_SIZE), PAGE_SIZE);
+        return readOnlyTransaction.execute(status -> "entity".equals(path)
+            ? findEntityPage(pageable)
+            : userRepository.findAll(pageable));
+    }
+
+    /**
+     * Loads the page as entities, fetching the addresses in the same statement: the inverse side of
+     * a one-to-one cannot be proxied, so without the fetch graph Hibernate would load each address
+     * with a query of its own and the comparison would measure that instead.
+     */
+    private Page<User> findEntityPage(Pageable pageable) {
+        var addressGraph = entityManager.createEntityGraph(UserEntity.class);
+        addressGraph.addAttributeNodes("address");
+        var users = entityManager.createQuery("SELECT u FROM UserEntity u", UserEntity.class)
+            .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, addressGraph)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultStream()
+            .map(persistenceMapper::fromUserEntityToUser)
+            .toList();
+        var total = entityManager.createQuery("SELECT count(u) FROM UserEntity u", Long.class).getSingleResult();
+        return new PageImpl<>(users, pageable, total);
+    }
+
+    private static User user(int i) {
+        var user = User.builder()
+            .id(UUID.randomUUID())
+            .name("Benchmark User " + i)
+            .email("benchmark.user" + i + "@xeppelin.com")
+            .role(UserRole.ATTENDEE)
+            .status(UserStatus.ACTIVE)
+            .build();
+        var address = Address.builder()
+            .id(UUID.randomUUID())
+            .user(user)
+            .line1("321 Conference Blvd")
+            .line2("Unit " + i)
+            .city("Miami")
+            .state("FL")
+            .postalCode("33101")
+            .country("USA")
+            .phoneNumber("+1-555-010-" + String.format("%04d", i))
+            .build();
+        return user.toBuilder().address(address).build();
+    }
+}
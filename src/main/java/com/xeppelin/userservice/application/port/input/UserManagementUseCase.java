@@ -1,9 +1,26 @@
 package com.xeppelin.userservice.application.port.input;
 
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserImportResult;
+import com.xeppelin.userservice.domain.model.UserPatch;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Interface for user management operations following the ports and adapters pattern.
@@ -20,7 +37,15 @@ public interface UserManagementUseCase {
     User createUser(User user);
 
     /**
-     * Retrieves a user by their email address.
+     * Creates a batch of users, rejecting individual users instead of failing the whole batch.
+     *
+     * @param users the user details to be created
+     * @return one result per submitted user, in submission order
+     */
+    List<UserCreationResult> createUsers(List<User> users);
+
+    /**
+     * Retrieves a user by their email address, ignoring case.
      *
      * @param email the email address of the user to retrieve
      * @return the user with the specified email address
@@ -36,7 +61,16 @@ public interface UserManagementUseCase {
     User getUserById(UUID userId);
 
     /**
-     * Retrieves a user by their phone number.
+     * Retrieves several users by their unique identifiers in one call.
+     *
+     * @param userIds the unique identifiers of the users to retrieve
+     * @return the users found, in the order of {@code userIds} without duplicates; unknown ids are skipped
+     */
+    List<User> getUsersByIds(List<UUID> userIds);
+
+    /**
+     * Retrieves a user by their phone number, whatever its formatting: {@code +1 (555) 010-1234}
+     * and {@code +1-555-010-1234} find the same user.
      *
      * @param phoneNumber the phone number of the user to retrieve
      * @return the user with the specified phone number
@@ -51,6 +85,84 @@ public interface UserManagementUseCase {
      */
     Page<User> getAllUsers(Pageable pageable);
 
+    /**
+     * Retrieves all users with keyset pagination, ordered by creation date then id.
+     * Meant for walking the whole table: each slice costs the same regardless of its depth.
+     *
+     * @param cursor where to start, or {@code null} for the first slice
+     * @param limit  the maximum number of users to return
+     * @return the slice of users and the cursor of the next one
+     */
+    UserSlice getUsersAfter(UserCursor cursor, int limit);
+
+    /**
+     * Searches users whose name or email resembles the query, tolerating partial words and typos.
+     * Results are ordered by decreasing relevance and read with keyset pagination.
+     *
+     * @param query  the text to look for, at least three characters long
+     * @param cursor where to start, or {@code null} for the first slice
+     * @param limit  the maximum number of users to return
+     * @return the slice of matching users and the cursor of the next one
+     */
+    UserSearchSlice searchUsers(String query, UserSearchCursor cursor, int limit);
+
+    /**
+     * Retrieves the users modified after a cursor, so that a copy of the users can be kept up to
+     * date by reading only what changed. Deleted users are reported as deletions until purged.
+     *
+     * @param cursor where to start, or {@code null} to start from the oldest change
+     * @param limit  the maximum number of changes to return
+     * @return the slice of changes and the cursor of the next read
+     */
+    UserChangeSlice getUserChanges(UserChangeCursor cursor, int limit);
+
+    /**
+     * Retrieves the users with the given role, and optionally status, with pagination support.
+     *
+     * @param role     the user role to filter by
+     * @param status   the user status to filter by, or {@code null} for any status
+     * @param pageable pagination information including page number, size, and sorting
+     * @return a page of matching users, including the total number of matches
+     */
+    Page<User> getUsersByRole(UserRole role, UserStatus status, Pageable pageable);
+
+    /**
+     * Retrieves the users with the given role, and optionally status, without counting them.
+     * Cheaper than {@link #getUsersByRole(UserRole, UserStatus, Pageable)} when no total is needed.
+     *
+     * @param role     the user role to filter by
+     * @param status   the user status to filter by, or {@code null} for any status
+     * @param pageable pagination information including page number, size, and sorting
+     * @return a slice of matching users telling whether more follow
+     */
+    Slice<User> getUserSliceByRole(UserRole role, UserStatus status, Pageable pageable);
+
+    /**
+     * Hands every user matching the filter to the consumer within a single read-only transaction.
+     * Users are streamed from the database rather than loaded at once, so memory stays constant
+     * however many users are exported.
+     *
+     * @param filter   the criteria the users must match
+     * @param consumer the consumer receiving each user, for instance to write it to a response
+     * @return the number of users exported
+     */
+    long exportUsers(UserFilter filter, Consumer<User> consumer);
+
+    /**
+     * Imports a large number of users, for instance when migrating them from another system.
+     * Users are validated one by one and loaded in bulk by chunks, each committed on its own;
+     * invalid users and taken emails or phone numbers are rejected individually.
+     * <p>
+     * An import that fails part way, for instance on a lost database connection, is not
+     * rolled back: the users of the chunks committed before the failure stay imported, and importing
+     * the same users again rejects them as taken rather than duplicating them.
+     * </p>
+     *
+     * @param users the users to import, read lazily so that the import runs in constant memory
+     * @return the numbers of imported and rejected users, with the reasons of the first rejections
+     */
+    UserImportResult importUsers(Iterator<User> users);
+
     /**
      * Updates an existing user's information.
      *
@@ -61,9 +173,29 @@ public interface UserManagementUseCase {
     User updateUser(UUID userId, User user);
 
     /**
-     * Deletes a user from the system.
+     * Changes only the given fields of a user, provided it was not modified since the given version.
+     *
+     * @param userId the unique identifier of the user
+     * @param patch  the changes and the version of the user they are based on
+     * @return the updated user, with its new version
+     */
+    User patchUser(UUID userId, UserPatch patch);
+
+    /**
+     * Deletes a user from the system. The user is no longer visible once this returns; its data is
+     * removed in the background by {@link #purgeDeletedUsers(Instant, int)}.
      *
      * @param userId the unique identifier of the user to delete
      */
     void deleteUser(UUID userId);
+
+    /**
+     * Removes the data of one batch of deleted users in its own short transaction, so that mass
+     * deletions never hold many row locks at once.
+     *
+     * @param deletedBefore the date before which users must have been deleted to be removed
+     * @param limit         the maximum number of users to remove
+     * @return the number of users removed, below {@code limit} once no such deleted user is left
+     */
+    int purgeDeletedUsers(Instant deletedBefore, int limit);
 }
@@ -0,0 +1,22 @@
+package com.xeppelin.userservice.application.port.output;
+
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import java.util.List;
+
+/**
+ * Output port for loading large numbers of new users at once, trading per-user feedback during the
+ * insert for throughput.
+ */
+public interface UserBulkLoader {
+
+    /**
+     * Inserts the users and their addresses in a transaction of its own, recording their creation in
+     * the {@link UserOutbox}. Users whose email or phone number is already taken, including by a
+     * concurrent writer, or that break a storage constraint, are skipped without failing the others.
+     *
+     * @param users the users to insert, with identifiers already assigned and distinct emails
+     * @return one rejection per skipped user, indexed by its position in {@code users}
+     */
+    List<UserCreationResult> load(List<User> users);
+}
@@ -0,0 +1,70 @@
+package com.xeppelin.userservice.application.port.output;
+
+import com.xeppelin.userservice.domain.model.User;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache port for user lookups.
+ * The user id is the primary key; email and phone number are secondary keys that only point
+ * to the id, so a single write to the primary entry keeps every lookup path coherent.
+ */
+public interface UserCache {
+
+    /**
+     * Returns the cached user with the given id, loading and caching it on a miss.
+     *
+     * @param userId the unique identifier of the user
+     * @param loader loads the user from the source of truth on a cache miss
+     * @return the user with the specified ID
+     */
+    User getById(UUID userId, Function<UUID, User> loader);
+
+    /**
+     * Returns the users with the given ids, reading every cached entry in one round trip and
+     * loading only the missing ones, which are then cached.
+     *
+     * @param userIds the unique identifiers of the users
+     * @param loader loads the users missing from the cache from the source of truth in one call
+     * @return the users found, in the order of {@code userIds} without duplicates; unknown ids are skipped
+     */
+    List<User> getAllById(List<UUID> userIds, Function<Collection<UUID>, List<User>> loader);
+
+    /**
+     * Resolves a user through the email index, loading and caching it on a miss. The index is keyed
+     * on {@linkplain User#normalizeEmail(String) canonical} emails.
+     *
+     * @param email the canonical email address of the user
+     * @param loader loads the user from the source of truth on a cache miss
+     * @return the user with the specified email address
+     */
+    User getByEmail(String email, Function<String, User> loader);
+
+    /**
+     * Resolves a user through the phone number index, loading and caching it on a miss. The index is
+     * keyed on {@linkplain com.xeppelin.userservice.domain.model.Address#normalizePhoneNumber(String) normalized}
+     * phone numbers.
+     *
+     * @param phoneNumber the normalized phone number of the user
+     * @param loader loads the user from the source of truth on a cache miss
+     * @return the user with the specified phone number
+     */
+    User getByPhoneNumber(String phoneNumber, Function<String, User> loader);
+
+    /**
+     * Stores the user under its id and re-points its email and phone number keys,
+     * dropping the keys of the previously cached version when they changed.
+     *
+     * @param user the user to cache
+     */
+    void put(User user);
+
+    /**
+     * Removes the user and the secondary keys of its cached version.
+     *
+     * @param userId the unique identifier of the user to evict
+     */
+    void evict(UUID userId);
+}
@@ -0,0 +1,17 @@
+package com.xeppelin.userservice.application.port.output;
+
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChangeType;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port recording changes to users for other services. Changes are appended in the caller's
+ * transaction, so that they are published if and only if the change itself commits.
+ */
+public interface UserOutbox {
+
+    void append(UserChangeType type, UUID userId, Integer version);
+
+    void appendAll(UserChangeType type, List<User> users);
+}
@@ -1,12 +1,26 @@
 package com.xeppelin.userservice.application.port.output;
 
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserPatch;
 import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
 import com.xeppelin.userservice.domain.model.UserStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Repository interface for managing User entities.
@@ -22,6 +36,35 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * Inserts a new user in a single round trip, without checking beforehand whether its email is taken.
+     *
+     * @param user the user to insert, with identifiers already assigned
+     * @return the inserted user
+     * @throws com.xeppelin.userservice.domain.exception.UserDomainException if a user with the same email already exists
+     */
+    User create(User user);
+
+    /**
+     * Inserts new users using batched statements.
+     *
+     * @param users the users to insert, with identifiers already assigned
+     * @return the inserted users, in the same order
+     */
+    List<User> saveAll(List<User> users);
+
+    /**
+     * Applies the non-null fields of the patch in a single conditional update, without reading the
+     * user first. The update only happens if the stored version still matches {@link UserPatch#version()},
+     * in which case the version is incremented.
+     *
+     * @param id the UUID of the user to update
+     * @param patch the changes and the version they are based on
+     * @return true if the user was updated, false if it does not exist or its version differs
+     * @throws com.xeppelin.userservice.domain.exception.UserDomainException if the new email belongs to another user
+     */
+    boolean patch(UUID id, UserPatch patch);
+
     /**
      * Finds a user by their unique identifier.
      *
@@ -31,7 +74,15 @@ public interface UserRepository {
     Optional<User> findById(UUID id);
 
     /**
-     * Finds a user by their email address.
+     * Finds all users with the given identifiers in a single query.
+     *
+     * @param ids the UUIDs of the users to find
+     * @return the users found, in no particular order; unknown ids are skipped
+     */
+    List<User> findAllById(Collection<UUID> ids);
+
+    /**
+     * Finds a user by their email address, ignoring case.
      *
      * @param email the email address to search for
      * @return an Optional containing the found user or empty if not found
@@ -39,7 +90,16 @@ public interface UserRepository {
     Optional<User> findByEmail(String email);
 
     /**
-     * Finds a user by their phone number.
+     * Returns which of the given email addresses are already taken, ignoring case, in a single query.
+     *
+     * @param emails the email addresses to check
+     * @return the taken email addresses, in their stored lower-case form
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Finds a user by their phone number, in whatever format it was written: numbers are compared
+     * in their {@linkplain com.xeppelin.userservice.domain.model.Address#normalizePhoneNumber(String) normalized} form.
      *
      * @param phoneNumber the phone number to search for
      * @return an Optional containing the found user or empty if not found
@@ -54,6 +114,42 @@ public interface UserRepository {
      */
     Page<User> findAll(Pageable pageable);
 
+    /**
+     * Retrieves the users following the given cursor, ordered by creation date then id.
+     * Unlike {@link #findAll(Pageable)} this neither skips rows nor counts the table, so every
+     * slice costs the same however deep it is.
+     *
+     * @param cursor where to start, or {@code null} for the first slice
+     * @param limit the maximum number of users to return
+     * @return the slice of users and the cursor of the next one
+     */
+    UserSlice findAllAfter(UserCursor cursor, int limit);
+
+    /**
+     * Finds the users whose name or email resembles the query, most relevant first, with keyset
+     * pagination on relevance then id. Typos and partial words still match.
+     *
+     * @param query the text to look for
+     * @param cursor where to start, or {@code null} for the first slice
+     * @param limit the maximum number of users to return
+     * @return the slice of matching users and the cursor of the next one
+     */
+    UserSearchSlice search(String query, UserSearchCursor cursor, int limit);
+
+    /**
+     * Retrieves the users modified after the given cursor, ordered by modification date then id.
+     * Deleted users are reported as such until they are purged. Only the changes made before
+     * {@code until} are read, so that a slow transaction stamped earlier but committed later is not
+     * skipped by a cursor that already moved past it. Once no change before {@code until} is left,
+     * the next cursor moves up to {@code until}, so that the cursor of a quiet feed stays recent.
+     *
+     * @param cursor where to start, or {@code null} to start from the oldest change
+     * @param until the modification date from which changes are left to a later read
+     * @param limit the maximum number of changes to return
+     * @return the slice of changes and the cursor of the next read
+     */
+    UserChangeSlice findChangedAfter(UserChangeCursor cursor, Instant until, int limit);
+
     /**
      * Finds users by their role.
      *
@@ -73,6 +169,36 @@ public interface UserRepository {
      */
     Page<User> findByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable);
 
+    /**
+     * Finds users by their role without counting them, which makes deep listings cheaper than
+     * {@link #findByRole(UserRole, Pageable)} when no total is needed.
+     *
+     * @param role the user role to filter by
+     * @param pageable pagination information
+     * @return a slice of users with the specified role
+     */
+    Slice<User> findSliceByRole(UserRole role, Pageable pageable);
+
+    /**
+     * Finds users by their role and status without counting them.
+     *
+     * @param role the user role to filter by
+     * @param status the user status to filter by
+     * @param pageable pagination information
+     * @return a slice of users with the specified role and status
+     */
+    Slice<User> findSliceByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable);
+
+    /**
+     * Streams the users matching the filter from a forward-only database cursor, so that only one
+     * fetch of rows is held in memory at a time however many users match.
+     * The stream must be consumed within the transaction it was opened in, and closed afterwards.
+     *
+     * @param filter the criteria the users must match
+     * @return the matching users, in no particular order
+     */
+    Stream<User> streamAll(UserFilter filter);
+
     /**
      * Checks if a user exists by their unique identifier.
      *
@@ -82,9 +208,30 @@ public interface UserRepository {
     boolean existsById(UUID id);
 
     /**
-     * Deletes a user by their unique identifier.
+     * Checks if a user exists with the given email address, ignoring case.
+     *
+     * @param email the email address to check
+     * @return true if a user has this email address, false otherwise
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Marks a user as deleted. From then on it is left out of every read, and its email can be
+     * taken again; the row itself is removed later by {@link #purgeDeleted(Instant, int)}.
      *
      * @param id the UUID of the user to delete
+     * @return true if a live user was marked, false if there is no such user
+     */
+    boolean markDeleted(UUID id);
+
+    /**
+     * Removes up to {@code limit} of the users marked as deleted before {@code deletedBefore}, with
+     * their address, oldest first. Rows locked by another transaction are skipped rather than waited
+     * for, so concurrent purges never block each other.
+     *
+     * @param deletedBefore the date before which users must have been deleted to be removed
+     * @param limit the maximum number of users to remove
+     * @return the number of users removed
      */
-    void deleteById(UUID id);
+    int purgeDeleted(Instant deletedBefore, int limit);
 }
@@ -1,58 +1,131 @@
 package com.xeppelin.userservice.application.service;
 
 import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.application.port.output.UserCache;
+import com.xeppelin.userservice.application.port.output.UserOutbox;
+import com.xeppelin.userservice.domain.exception.NotFoundException;
+import com.xeppelin.userservice.domain.model.Address;
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserChangeType;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserImportResult;
+import com.xeppelin.userservice.domain.model.UserPatch;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
+import com.xeppelin.userservice.domain.model.UserStatus;
 import com.xeppelin.userservice.domain.service.UserDomainService;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserApplicationService implements UserManagementUseCase {
 
     private final UserDomainService userDomainService;
 
+    private final UserCache userCache;
+
+    private final UserOutbox userOutbox;
+
+    /**
+     * Wraps only the loads behind cache misses, so that cache hits and callers waiting on another
+     * caller's load never hold a database connection. It is deliberately not read-only: a loaded
+     * user is written to the cache, so it must come from the primary rather than from a lagging
+     * replica that could put back a row an update or delete has already replaced.
+     */
+    private final TransactionTemplate cacheLoadTransaction;
+
+    public UserApplicationService(UserDomainService userDomainService,
+                                  UserCache userCache,
+                                  UserOutbox userOutbox,
+                                  PlatformTransactionManager transactionManager) {
+        this.userDomainService = userDomainService;
+        this.userCache = userCache;
+        this.userOutbox = userOutbox;
+        this.cacheLoadTransaction = new TransactionTemplate(transactionManager);
+    }
+
     @Override
     @Transactional
-    @CachePut(value = "User", key = "#result.id")
     public User createUser(User user) {
         log.info("Creating new user with email: {}", user.getEmail());
         User newUser = userDomainService.createUser(user);
+        userOutbox.append(UserChangeType.CREATED, newUser.getId(), newUser.getVersion());
+        afterCommit(() -> userCache.put(newUser));
         log.info("User created with ID: {}", newUser.getId());
         return newUser;
     }
 
+    /**
+     * Created users are not written to the cache: bulk imports would otherwise flood it with
+     * entries that are mostly never read, and they are loaded on first access anyway.
+     */
+    @Override
+    @Transactional
+    public List<UserCreationResult> createUsers(List<User> users) {
+        log.info("Creating batch of {} users", users.size());
+        var results = userDomainService.createUsers(users);
+        userOutbox.appendAll(UserChangeType.CREATED,
+            results.stream().filter(UserCreationResult::isCreated).map(UserCreationResult::user).toList());
+        return results;
+    }
+
+    /**
+     * Not transactional, like the other cached lookups: the cache runs outside of any transaction
+     * and only a miss opens one.
+     */
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "UserByEmail", key = "#email", unless = "#result == null")
     public User getUserByEmail(String email) {
         log.debug("Getting user by email: {}", email);
-        return userDomainService.getUserByEmail(email);
+        // Keyed on the canonical form so that every casing of an email shares one cache entry
+        return userCache.getByEmail(User.normalizeEmail(email),
+            canonicalEmail -> cacheLoadTransaction.execute(status -> userDomainService.getUserByEmail(canonicalEmail)));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "User", key = "#userId", unless = "#result == null")
     public User getUserById(UUID userId) {
         log.debug("Getting user by ID: {}", userId);
-        return userDomainService.getUserById(userId);
+        return userCache.getById(userId,
+            id -> cacheLoadTransaction.execute(status -> userDomainService.getUserById(id)));
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<UUID> userIds) {
+        log.debug("Getting {} users by ID", userIds.size());
+        return userCache.getAllById(userIds,
+            missingIds -> cacheLoadTransaction.execute(status -> userDomainService.getUsersByIds(missingIds)));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "UserByPhone", key = "#phoneNumber", unless = "#result == null")
     public User getUserByPhoneNumber(String phoneNumber) {
         log.debug("Getting user by phone number: {}", phoneNumber);
-        return userDomainService.getUserByPhoneNumber(phoneNumber);
+        // Keyed on the normalized form so that every way of writing a number shares one cache entry
+        var normalizedPhoneNumber = Address.normalizePhoneNumber(phoneNumber);
+        if (normalizedPhoneNumber == null) {
+            // No digit, so no user can have it; not worth a query nor a cache entry
+            throw new NotFoundException(String.format("User not found with phone number: %s", phoneNumber));
+        }
+        return userCache.getByPhoneNumber(normalizedPhoneNumber,
+            number -> cacheLoadTransaction.execute(status -> userDomainService.getUserByPhoneNumber(number)));
     }
 
     @Override
@@ -62,22 +135,118 @@ public class UserApplicationService implements UserManagementUseCase {
         return userDomainService.getAllUsers(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public UserSlice getUsersAfter(UserCursor cursor, int limit) {
+        log.debug("Getting {} users after cursor: {}", limit, cursor);
+        return userDomainService.getUsersAfter(cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSearchSlice searchUsers(String query, UserSearchCursor cursor, int limit) {
+        log.debug("Searching {} users matching: {} after cursor: {}", limit, query, cursor);
+        return userDomainService.searchUsers(query, cursor, limit);
+    }
+
+    /**
+     * Not read-only, so that it reads from the primary: a replica lagging behind could let the
+     * cursor move past changes it has not replayed yet.
+     */
+    @Override
+    @Transactional
+    public UserChangeSlice getUserChanges(UserChangeCursor cursor, int limit) {
+        log.debug("Getting {} user changes after cursor: {}", limit, cursor);
+        return userDomainService.getUserChanges(cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<User> getUsersByRole(UserRole role, UserStatus status, Pageable pageable) {
+        log.debug("Getting users with role: {} and status: {} with pagination: {}", role, status, pageable);
+        return userDomainService.getUsersByRole(role, status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<User> getUserSliceByRole(UserRole role, UserStatus status, Pageable pageable) {
+        log.debug("Getting slice of users with role: {} and status: {} with pagination: {}", role, status, pageable);
+        return userDomainService.getUserSliceByRole(role, status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUsers(UserFilter filter, Consumer<User> consumer) {
+        log.debug("Exporting users matching: {}", filter);
+        return userDomainService.exportUsers(filter, consumer);
+    }
+
+    /**
+     * Not transactional: every chunk of the import is committed in a transaction of its own, which
+     * records the creations in the outbox itself.
+     */
+    @Override
+    public UserImportResult importUsers(Iterator<User> users) {
+        log.info("Importing users");
+        return userDomainService.importUsers(users);
+    }
+
     @Override
     @Transactional
-    @CachePut(value = "User", key = "#userId")
     public User updateUser(UUID userId, User user) {
         log.info("Updating user with ID: {}", userId);
         User updatedUser = userDomainService.updateUser(userId, user);
+        userOutbox.append(UserChangeType.UPDATED, userId, updatedUser.getVersion());
+        afterCommit(() -> userCache.put(updatedUser));
         log.info("User updated with email: {}", updatedUser.getEmail());
         return updatedUser;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "User", key = "#userId")
+    public User patchUser(UUID userId, UserPatch patch) {
+        log.info("Patching user with ID: {}", userId);
+        User patchedUser = userDomainService.patchUser(userId, patch);
+        userOutbox.append(UserChangeType.UPDATED, userId, patchedUser.getVersion());
+        afterCommit(() -> userCache.put(patchedUser));
+        log.info("User patched to version: {}", patchedUser.getVersion());
+        return patchedUser;
+    }
+
+    @Override
+    @Transactional
     public void deleteUser(UUID userId) {
         log.info("Deleting user with ID: {}", userId);
         userDomainService.deleteUser(userId);
+        userOutbox.append(UserChangeType.DELETED, userId, null);
+        afterCommit(() -> userCache.evict(userId));
         log.info("User deleted with ID: {}", userId);
     }
+
+    /**
+     * Purged users were evicted from the cache when they were deleted, so there is nothing to evict.
+     */
+    @Override
+    @Transactional
+    public int purgeDeletedUsers(Instant deletedBefore, int limit) {
+        return userDomainService.purgeDeletedUsers(deletedBefore, limit);
+    }
+
+    /**
+     * Defers a cache write until the transaction commits. Written earlier, it would be undone by
+     * neither a rollback nor a concurrent miss, which could reload and cache the row as it was
+     * before the commit.
+     */
+    private static void afterCommit(Runnable cacheWrite) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheWrite.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheWrite.run();
+            }
+        });
+    }
 }
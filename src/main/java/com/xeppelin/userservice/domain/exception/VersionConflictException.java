@@ -0,0 +1,11 @@
+package com.xeppelin.userservice.domain.exception;
+
+/**
+ * Thrown when a user was modified by someone else since the version the caller based its changes on.
+ */
+public class VersionConflictException extends UserDomainException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
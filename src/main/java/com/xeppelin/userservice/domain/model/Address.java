@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.xeppelin.userservice.domain.exception.UserDomainException;
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +16,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Address implements Serializable {
 
+    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^[\\d\\s\\-\\(\\)\\+]+$");
+
     private UUID id;
 
     private User user;
@@ -33,8 +36,8 @@ public class Address implements Serializable {
 
     private String phoneNumber;
 
-    public void initializeAddress() {
-        id = UUID.randomUUID();
+    public void initializeAddress(UUID newId) {
+        id = newId;
     }
 
     public void updateUser(User user) {
@@ -90,10 +93,10 @@ public class Address implements Serializable {
         this.phoneNumber = newPhoneNumber;
     }
 
-    public static Address createAddress(User user, String line1, String line2,
+    public static Address createAddress(UUID id, User user, String line1, String line2,
                                         String city, String state, String postalCode, String country, String phoneNumber) {
         return Address.builder()
-            .id(UUID.randomUUID())
+            .id(id)
             .user(user)
             .line1(line1)
             .line2(line2)
@@ -105,6 +108,35 @@ public class Address implements Serializable {
             .build();
     }
 
+    /**
+     * Checks the address against the rules enforced when its fields are updated one by one.
+     *
+     * @throws UserDomainException describing the first rule the address breaks
+     */
+    public void validate() {
+        if (line1 == null || line1.trim().isEmpty()) {
+            throw new UserDomainException("Address line 1 cannot be null or empty");
+        }
+        if (city == null || city.trim().isEmpty()) {
+            throw new UserDomainException("City cannot be null or empty");
+        }
+        if (state == null || state.trim().isEmpty()) {
+            throw new UserDomainException("State cannot be null or empty");
+        }
+        if (postalCode == null || postalCode.trim().isEmpty()) {
+            throw new UserDomainException("Postal code cannot be null or empty");
+        }
+        if (country == null || country.trim().isEmpty()) {
+            throw new UserDomainException("Country cannot be null or empty");
+        }
+        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+            throw new UserDomainException("Phone number cannot be null or empty");
+        }
+        if (!isValidPhoneNumber(phoneNumber)) {
+            throw new UserDomainException("Invalid phone number format");
+        }
+    }
+
     @JsonIgnore
     public boolean isValid() {
         return line1 != null && !line1.isBlank() &&
@@ -115,6 +147,11 @@ public class Address implements Serializable {
             phoneNumber != null && !phoneNumber.isBlank();
     }
 
+    @JsonIgnore
+    public String getNormalizedPhoneNumber() {
+        return normalizePhoneNumber(phoneNumber);
+    }
+
     @JsonIgnore
     public String getFormattedAddress() {
         StringBuilder sb = new StringBuilder();
@@ -136,10 +173,35 @@ public class Address implements Serializable {
         return sb.toString();
     }
 
+    /**
+     * Reduces a phone number to its E.164-style form, a {@code +} followed by its digits, so that
+     * {@code +1 (555) 010-1234} and {@code +1-555-010-1234} are the same number. Phone numbers are
+     * entered with their country code, so none is added. The database keeps the same form in
+     * {@code addresses.phone_number_normalized}; both must change together. Text without any digit is
+     * no phone number at all; stored numbers always have digits, so the column never holds a bare
+     * {@code +} either.
+     *
+     * @param phoneNumber the phone number as entered, may be {@code null}
+     * @return the normalized phone number, or {@code null} if there is none or it has no digit
+     */
+    public static String normalizePhoneNumber(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        var normalized = new StringBuilder(phoneNumber.length()).append('+');
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            var c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                normalized.append(c);
+            }
+        }
+        return normalized.length() > 1 ? normalized.toString() : null;
+    }
+
     private static boolean isValidPhoneNumber(String phoneNumber) {
         // Simple validation: Allow digits, spaces, dashes, and parentheses, min 7 digits
         return phoneNumber != null &&
-            phoneNumber.matches("^[\\d\\s\\-\\(\\)\\+]+$") &&
+            PHONE_NUMBER_PATTERN.matcher(phoneNumber).matches() &&
             phoneNumber.replaceAll("[^\\d]", "").length() >= 7;
     }
 } 
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.xeppelin.userservice.domain.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.xeppelin.userservice.domain.exception.UserDomainException;
 import java.io.Serializable;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +17,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class User implements Serializable {
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+
     private UUID id;
 
     private String name;
@@ -27,8 +31,13 @@ public class User implements Serializable {
 
     private Address address;
 
-    public void initializeUser() {
-        id = UUID.randomUUID();
+    /**
+     * Optimistic locking version of the stored user, or {@code null} for a user that was not read from storage.
+     */
+    private Integer version;
+
+    public void initializeUser(UUID newId) {
+        id = newId;
         status = UserStatus.ACTIVE;
     }
 
@@ -58,7 +67,14 @@ public class User implements Serializable {
         if (!isValidEmail(newEmail)) {
             throw new UserDomainException("Invalid email format");
         }
-        this.email = newEmail;
+        this.email = normalizeEmail(newEmail);
+    }
+
+    /**
+     * Brings the email to its canonical form, see {@link #normalizeEmail(String)}.
+     */
+    public void normalizeEmail() {
+        this.email = normalizeEmail(email);
     }
 
     public void updateRole(UserRole newRole) {
@@ -75,6 +91,29 @@ public class User implements Serializable {
         this.address = newAddress;
     }
 
+    /**
+     * Checks the user against the rules enforced when its fields are updated one by one.
+     *
+     * @throws UserDomainException describing the first rule the user breaks
+     */
+    public void validate() {
+        if (name == null || name.trim().isEmpty()) {
+            throw new UserDomainException("User name cannot be null or empty");
+        }
+        if (email == null || email.trim().isEmpty()) {
+            throw new UserDomainException("Email cannot be null or empty");
+        }
+        if (!isValidEmail(email)) {
+            throw new UserDomainException("Invalid email format");
+        }
+        if (role == null) {
+            throw new UserDomainException("User role cannot be null");
+        }
+        if (address != null) {
+            address.validate();
+        }
+    }
+
     @JsonIgnore
     public boolean isActive() {
         return UserStatus.ACTIVE.equals(this.status);
@@ -85,7 +124,7 @@ public class User implements Serializable {
         return UserStatus.SUSPENDED.equals(this.status);
     }
 
-    public static User createUser(String name, String email, UserRole role) {
+    public static User createUser(UUID id, String name, String email, UserRole role) {
         if (name == null || name.trim().isEmpty()) {
             throw new UserDomainException("User name cannot be null or empty");
         }
@@ -97,16 +136,28 @@ public class User implements Serializable {
         }
 
         return User.builder()
-            .id(UUID.randomUUID())
+            .id(id)
             .name(name)
-            .email(email)
+            .email(normalizeEmail(email))
             .role(role)
             .status(UserStatus.ACTIVE)
             .build();
     }
 
+    /**
+     * Reduces an email to its canonical form, trimmed and lower-cased, under which emails are stored,
+     * compared and cached: {@code John.Doe@Example.com} and {@code john.doe@example.com} are the same
+     * user.
+     *
+     * @param email the email as entered, may be {@code null}
+     * @return the canonical email, or {@code null} if there is none
+     */
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
     private static boolean isValidEmail(String email) {
         // Simple email validation
-        return email != null && email.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+        return email != null && EMAIL_PATTERN.matcher(email).matches();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Latest state of a user that changed, as reported by the change feed.
+ *
+ * @param id           identifier of the changed user
+ * @param modifiedDate when the user was last modified
+ * @param user         the user as it is now, or {@code null} when it was deleted
+ */
+public record UserChange(UUID id, Instant modifiedDate, User user) {
+
+    public boolean isDeleted() {
+        return user == null;
+    }
+}
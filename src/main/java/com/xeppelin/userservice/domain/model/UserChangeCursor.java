@@ -0,0 +1,14 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position in the change feed ordered by modification date then id: the sort key of the last change
+ * returned, after which the next read continues.
+ *
+ * @param modifiedDate modification date of the last change returned
+ * @param id           identifier of the user of the last change returned, breaking ties between equal dates
+ */
+public record UserChangeCursor(Instant modifiedDate, UUID id) {
+}
@@ -0,0 +1,16 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Change made to a user, kept compact: consumers needing the user itself fetch it by id.
+ *
+ * @param sequence   position of the change in the outbox, increasing with every change to a given user
+ * @param userId     identifier of the changed user
+ * @param type       kind of change
+ * @param version    version of the user after the change, or {@code null} when deleted
+ * @param occurredAt when the change was made
+ */
+public record UserChangeEvent(long sequence, UUID userId, UserChangeType type, Integer version, Instant occurredAt) {
+}
@@ -0,0 +1,14 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.util.List;
+
+/**
+ * A slice of the change feed.
+ *
+ * @param changes    the changes of this slice, ordered by modification date then id
+ * @param nextCursor where the next read continues: after the last change of this slice, or where this
+ *                   read stopped once there are no more changes, however long ago the last one was
+ * @param hasMore    whether more changes are already available after this slice
+ */
+public record UserChangeSlice(List<UserChange> changes, UserChangeCursor nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,13 @@
+package com.xeppelin.userservice.domain.model;
+
+/**
+ * Kind of change made to a user, as published to other services.
+ */
+public enum UserChangeType {
+
+    CREATED,
+
+    UPDATED,
+
+    DELETED
+}
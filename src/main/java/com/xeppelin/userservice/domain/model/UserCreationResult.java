@@ -0,0 +1,23 @@
+package com.xeppelin.userservice.domain.model;
+
+/**
+ * Outcome of creating one user of a batch.
+ *
+ * @param index position of the user in the submitted batch
+ * @param user  the created user, or {@code null} when rejected
+ * @param error why the user was rejected, or {@code null} when created
+ */
+public record UserCreationResult(int index, User user, String error) {
+
+    public static UserCreationResult created(int index, User user) {
+        return new UserCreationResult(index, user, null);
+    }
+
+    public static UserCreationResult rejected(int index, String error) {
+        return new UserCreationResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return user != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position in the user listing ordered by creation date then id: the sort key of the last user
+ * returned, from which the next slice continues.
+ *
+ * @param createdDate creation date of the last user returned
+ * @param id          identifier of the last user returned, breaking ties between equal dates
+ */
+public record UserCursor(Instant createdDate, UUID id) {
+}
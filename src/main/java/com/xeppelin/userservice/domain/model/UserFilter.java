@@ -0,0 +1,11 @@
+package com.xeppelin.userservice.domain.model;
+
+/**
+ * Criteria selecting users in bulk: {@code null} fields do not restrict the selection.
+ *
+ * @param role    the role of the users, or {@code null} for any role
+ * @param status  the status of the users, or {@code null} for any status
+ * @param country the country of the users' address, or {@code null} for any country
+ */
+public record UserFilter(UserRole role, UserStatus status, String country) {
+}
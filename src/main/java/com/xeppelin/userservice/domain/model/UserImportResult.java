@@ -0,0 +1,14 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import of users.
+ *
+ * @param imported   number of users inserted
+ * @param rejected   number of users rejected
+ * @param rejections why users were rejected, indexed by their position in the import; capped, so it may
+ *                   hold fewer entries than {@code rejected}
+ */
+public record UserImportResult(long imported, long rejected, List<UserCreationResult> rejections) {
+}
@@ -0,0 +1,13 @@
+package com.xeppelin.userservice.domain.model;
+
+/**
+ * Partial update of a user: {@code null} fields are left unchanged.
+ *
+ * @param name    the new name, or {@code null} to keep the current one
+ * @param email   the new email address, or {@code null} to keep the current one
+ * @param role    the new role, or {@code null} to keep the current one
+ * @param status  the new status, or {@code null} to keep the current one
+ * @param version the version of the user the changes are based on; the update is refused if it is stale
+ */
+public record UserPatch(String name, String email, UserRole role, UserStatus status, int version) {
+}
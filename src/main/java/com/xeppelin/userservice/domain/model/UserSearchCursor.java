@@ -0,0 +1,13 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Position in search results ordered by decreasing relevance then id: the sort key of the last user
+ * returned, from which the next slice continues.
+ *
+ * @param score relevance of the last user returned to the search query
+ * @param id    identifier of the last user returned, breaking ties between equal scores
+ */
+public record UserSearchCursor(float score, UUID id) {
+}
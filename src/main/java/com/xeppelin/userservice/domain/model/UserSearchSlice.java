@@ -0,0 +1,16 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.util.List;
+
+/**
+ * A slice of the users matching a search, read with keyset pagination.
+ *
+ * @param users      the users of this slice, most relevant first
+ * @param nextCursor where the next slice starts, or {@code null} when this slice is the last one
+ */
+public record UserSearchSlice(List<User> users, UserSearchCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.xeppelin.userservice.domain.model;
+
+import java.util.List;
+
+/**
+ * A slice of the user listing read with keyset pagination.
+ *
+ * @param users      the users of this slice, ordered by creation date then id
+ * @param nextCursor where the next slice starts, or {@code null} when this slice is the last one
+ */
+public record UserSlice(List<User> users, UserCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
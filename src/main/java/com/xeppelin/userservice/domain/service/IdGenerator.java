@@ -0,0 +1,18 @@
+package com.xeppelin.userservice.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Source of the identifiers assigned to new users and addresses.
+ * Implementations must be safe for concurrent use and never return the same identifier twice.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Returns a new identifier.
+     *
+     * @return an identifier never returned before
+     */
+    UUID nextId();
+}
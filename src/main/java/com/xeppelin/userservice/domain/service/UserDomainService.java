@@ -1,9 +1,27 @@
 package com.xeppelin.userservice.domain.service;
 
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserImportResult;
+import com.xeppelin.userservice.domain.model.UserPatch;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing user domain operations.
@@ -20,6 +38,15 @@ public interface UserDomainService {
      */
     User createUser(User user);
 
+    /**
+     * Creates a batch of users. Each user is validated on its own and rejected if its email is
+     * invalid, repeated within the batch or already taken; the remaining users are created.
+     *
+     * @param users The users to be created
+     * @return One result per submitted user, in submission order
+     */
+    List<UserCreationResult> createUsers(List<User> users);
+
     /**
      * Retrieves a user by their unique identifier.
      *
@@ -29,6 +56,14 @@ public interface UserDomainService {
      */
     User getUserById(UUID userId);
 
+    /**
+     * Retrieves the users with the given identifiers in a single lookup.
+     *
+     * @param userIds The unique identifiers of the users
+     * @return The users found, in no particular order; unknown identifiers are skipped
+     */
+    List<User> getUsersByIds(Collection<UUID> userIds);
+
     /**
      * Retrieves a user by their email address.
      *
@@ -55,6 +90,77 @@ public interface UserDomainService {
      */
     Page<User> getAllUsers(Pageable pageable);
 
+    /**
+     * Retrieves all users with keyset pagination, ordered by creation date then id.
+     *
+     * @param cursor Where to start, or {@code null} for the first slice
+     * @param limit  The maximum number of users to return
+     * @return The slice of users and the cursor of the next one
+     */
+    UserSlice getUsersAfter(UserCursor cursor, int limit);
+
+    /**
+     * Searches users by partial or approximate name or email, most relevant first.
+     *
+     * @param query  The text to look for, at least three characters long once trimmed
+     * @param cursor Where to start, or {@code null} for the first slice
+     * @param limit  The maximum number of users to return
+     * @return The slice of matching users and the cursor of the next one
+     * @throws com.xeppelin.userservice.domain.exception.UserDomainException if the query is too short
+     */
+    UserSearchSlice searchUsers(String query, UserSearchCursor cursor, int limit);
+
+    /**
+     * Retrieves the users modified after a cursor, deleted ones included, ordered by modification
+     * date then id. The most recent changes are held back for a few seconds, until the transactions
+     * that made them have committed.
+     *
+     * @param cursor Where to start, or {@code null} to start from the oldest change
+     * @param limit  The maximum number of changes to return
+     * @return The slice of changes and the cursor of the next read
+     */
+    UserChangeSlice getUserChanges(UserChangeCursor cursor, int limit);
+
+    /**
+     * Retrieves the users with the given role, and status if any, with pagination support.
+     *
+     * @param role     The user role to filter by
+     * @param status   The user status to filter by, or {@code null} for any status
+     * @param pageable The pagination information
+     * @return The page of matching users, ordered by id unless {@code pageable} is sorted
+     */
+    Page<User> getUsersByRole(UserRole role, UserStatus status, Pageable pageable);
+
+    /**
+     * Same as {@link #getUsersByRole(UserRole, UserStatus, Pageable)} but without counting the matching users.
+     *
+     * @param role     The user role to filter by
+     * @param status   The user status to filter by, or {@code null} for any status
+     * @param pageable The pagination information
+     * @return The slice of matching users, ordered by id unless {@code pageable} is sorted
+     */
+    Slice<User> getUserSliceByRole(UserRole role, UserStatus status, Pageable pageable);
+
+    /**
+     * Hands every user matching the filter to the consumer, one at a time, without collecting them.
+     *
+     * @param filter   The criteria the users must match
+     * @param consumer The consumer receiving each user
+     * @return The number of users exported
+     */
+    long exportUsers(UserFilter filter, Consumer<User> consumer);
+
+    /**
+     * Imports users in chunks loaded in bulk, validating each one with the rules of {@link User} and
+     * rejecting invalid users or taken emails and phone numbers individually instead of failing the import.
+     * Each chunk is committed on its own, so users of earlier chunks stay imported if a later one fails.
+     *
+     * @param users The users to import, read lazily; {@code next()} may throw a
+     *              {@link com.xeppelin.userservice.domain.exception.UserDomainException} for an unreadable user
+     * @return The numbers of imported and rejected users, with the reasons of the first rejections
+     */
+    UserImportResult importUsers(Iterator<User> users);
+
     /**
      * Updates an existing user's information.
      *
@@ -65,10 +171,31 @@ public interface UserDomainService {
     User updateUser(UUID userId, User user);
 
     /**
-     * Deletes a user from the system.
+     * Applies a partial update to a user without reading it first.
+     *
+     * @param userId The unique identifier of the user to update
+     * @param patch  The changes and the version of the user they are based on
+     * @return The updated user
+     * @throws com.xeppelin.userservice.domain.exception.NotFoundException if no user exists with the given ID
+     * @throws com.xeppelin.userservice.domain.exception.VersionConflictException if the user was modified since that version
+     */
+    User patchUser(UUID userId, UserPatch patch);
+
+    /**
+     * Deletes a user from the system. The user disappears at once, but its data is only removed
+     * by a later {@link #purgeDeletedUsers(Instant, int)}.
      *
      * @param userId The unique identifier of the user to be deleted
      * @throws com.xeppelin.userservice.domain.exception.UserNotFoundException if no user exists with the given ID
      */
     void deleteUser(UUID userId);
+
+    /**
+     * Removes the data of one batch of deleted users, oldest deletions first.
+     *
+     * @param deletedBefore The date before which users must have been deleted to be removed
+     * @param limit         The maximum number of users to remove
+     * @return The number of users removed, below {@code limit} once no such deleted user is left
+     */
+    int purgeDeletedUsers(Instant deletedBefore, int limit);
 }
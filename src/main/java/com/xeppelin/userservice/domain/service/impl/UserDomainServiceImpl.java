@@ -1,47 +1,138 @@
 package com.xeppelin.userservice.domain.service.impl;
 
+import com.xeppelin.userservice.application.port.output.UserBulkLoader;
 import com.xeppelin.userservice.application.port.output.UserRepository;
 import com.xeppelin.userservice.domain.exception.NotFoundException;
 import com.xeppelin.userservice.domain.exception.UserDomainException;
+import com.xeppelin.userservice.domain.exception.VersionConflictException;
 import com.xeppelin.userservice.domain.model.Address;
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserImportResult;
+import com.xeppelin.userservice.domain.model.UserPatch;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.domain.service.IdGenerator;
 import com.xeppelin.userservice.domain.service.UserDomainService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 @Slf4j
 @RequiredArgsConstructor
 public class UserDomainServiceImpl implements UserDomainService {
 
+    /**
+     * Users loaded per bulk insert: large enough to amortize the round trips of a load, small enough
+     * to keep a chunk in memory and its transaction short.
+     */
+    static final int IMPORT_CHUNK_SIZE = 10_000;
+
+    /**
+     * Shortest search query: trigram matching needs at least three characters to be selective.
+     */
+    static final int MIN_SEARCH_LENGTH = 3;
+
+    /**
+     * How long recent changes are held back from the change feed. A change is stamped before its
+     * transaction commits, so a feed reading up to the present could move its cursor past a change
+     * that commits a moment later; waiting this long covers regular transactions and clock skew
+     * between nodes.
+     */
+    static final Duration CHANGE_SETTLE_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * Rejections reported in detail by an import; further ones are only counted.
+     */
+    static final int MAX_REPORTED_REJECTIONS = 1_000;
+
     private final UserRepository userRepository;
 
+    private final UserBulkLoader userBulkLoader;
+
+    private final IdGenerator idGenerator;
+
     @Override
     public User createUser(User user) {
         log.info("Creating user: {}", user);
 
         // Validate the user before saving
         validateUser(user);
+        user.normalizeEmail();
 
-        // Initialize user (set any default values or generated fields)
-        user.initializeUser();
+        // Initialize user and address (set any default values or generated fields)
+        initializeNewUser(user);
 
-        // Initialize address if it exists
-        if (user.getAddress() != null) {
-            user.getAddress().initializeAddress();
-            user.getAddress().updateUser(user);
+        // Insert the user; a taken email is rejected by the unique constraint, which also covers concurrent signups
+        return userRepository.create(user);
+    }
+
+    @Override
+    public List<UserCreationResult> createUsers(List<User> users) {
+        log.info("Creating batch of {} users", users.size());
+        var results = new UserCreationResult[users.size()];
+
+        // Validate each user and keep the first occurrence of every email
+        var indexByEmail = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < users.size(); i++) {
+            var user = users.get(i);
+            try {
+                validateUser(user);
+            } catch (UserDomainException ex) {
+                results[i] = UserCreationResult.rejected(i, ex.getMessage());
+                continue;
+            }
+            user.normalizeEmail();
+            if (indexByEmail.putIfAbsent(user.getEmail(), i) != null) {
+                results[i] = UserCreationResult.rejected(i,
+                    String.format("User with email %s appears more than once in the batch", user.getEmail()));
+            }
         }
 
-        // Check if user with email already exists
-        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
-            log.error("User with email {} already exists", user.getEmail());
-            throw new UserDomainException(String.format("User with email %s already exists", user.getEmail()));
+        // Check all emails against existing users in one lookup
+        var existingEmails = userRepository.findExistingEmails(indexByEmail.keySet());
+        var usersToSave = new ArrayList<User>(indexByEmail.size());
+        var indexesToSave = new ArrayList<Integer>(indexByEmail.size());
+        indexByEmail.forEach((email, index) -> {
+            if (existingEmails.contains(email)) {
+                results[index] = UserCreationResult.rejected(index,
+                    String.format("User with email %s already exists", email));
+                return;
+            }
+            var user = users.get(index);
+            initializeNewUser(user);
+            usersToSave.add(user);
+            indexesToSave.add(index);
+        });
+
+        // Save the accepted users in batches
+        var savedUsers = userRepository.saveAll(usersToSave);
+        for (int i = 0; i < savedUsers.size(); i++) {
+            results[indexesToSave.get(i)] = UserCreationResult.created(indexesToSave.get(i), savedUsers.get(i));
         }
 
-        // Save the user
-        return userRepository.save(user);
+        log.info("Created {} of {} users", savedUsers.size(), users.size());
+        return Arrays.asList(results);
     }
 
     @Override
@@ -53,10 +144,16 @@ public class UserDomainServiceImpl implements UserDomainService {
             ));
     }
 
+    @Override
+    public List<User> getUsersByIds(Collection<UUID> userIds) {
+        log.info("Getting {} users by ID", userIds.size());
+        return userRepository.findAllById(userIds);
+    }
+
     @Override
     public User getUserByEmail(String email) {
         log.info("Getting user by email: {}", email);
-        return userRepository.findByEmail(email)
+        return userRepository.findByEmail(User.normalizeEmail(email))
             .orElseThrow(() -> new NotFoundException(
                 String.format("User not found with email: %s", email)
             ));
@@ -77,6 +174,105 @@ public class UserDomainServiceImpl implements UserDomainService {
         return userRepository.findAll(pageable);
     }
 
+    @Override
+    public UserSlice getUsersAfter(UserCursor cursor, int limit) {
+        log.info("Getting {} users after cursor: {}", limit, cursor);
+        return userRepository.findAllAfter(cursor, limit);
+    }
+
+    @Override
+    public UserSearchSlice searchUsers(String query, UserSearchCursor cursor, int limit) {
+        log.info("Searching {} users matching: {} after cursor: {}", limit, query, cursor);
+        var trimmedQuery = query == null ? "" : query.trim();
+        if (trimmedQuery.length() < MIN_SEARCH_LENGTH) {
+            throw new UserDomainException(String.format("Search query must have at least %d characters", MIN_SEARCH_LENGTH));
+        }
+        return userRepository.search(trimmedQuery, cursor, limit);
+    }
+
+    @Override
+    public UserChangeSlice getUserChanges(UserChangeCursor cursor, int limit) {
+        log.debug("Getting {} user changes after cursor: {}", limit, cursor);
+        return userRepository.findChangedAfter(cursor, Instant.now().minus(CHANGE_SETTLE_DELAY), limit);
+    }
+
+    @Override
+    public Page<User> getUsersByRole(UserRole role, UserStatus status, Pageable pageable) {
+        log.info("Getting users with role: {} and status: {} with pageable: {}", role, status, pageable);
+        return status == null
+            ? userRepository.findByRole(role, pageable)
+            : userRepository.findByRoleAndStatus(role, status, pageable);
+    }
+
+    @Override
+    public Slice<User> getUserSliceByRole(UserRole role, UserStatus status, Pageable pageable) {
+        log.info("Getting slice of users with role: {} and status: {} with pageable: {}", role, status, pageable);
+        return status == null
+            ? userRepository.findSliceByRole(role, pageable)
+            : userRepository.findSliceByRoleAndStatus(role, status, pageable);
+    }
+
+    @Override
+    public long exportUsers(UserFilter filter, Consumer<User> consumer) {
+        log.info("Exporting users matching: {}", filter);
+        var exported = 0L;
+        try (var users = userRepository.streamAll(filter)) {
+            for (var iterator = users.iterator(); iterator.hasNext(); exported++) {
+                consumer.accept(iterator.next());
+            }
+        }
+        log.info("Exported {} users", exported);
+        return exported;
+    }
+
+    @Override
+    public UserImportResult importUsers(Iterator<User> users) {
+        log.info("Importing users");
+        var tally = new ImportTally();
+        var chunk = new ArrayList<User>(IMPORT_CHUNK_SIZE);
+        var chunkIndexes = new int[IMPORT_CHUNK_SIZE];
+        var chunkEmails = new HashSet<String>();
+        var chunkPhoneNumbers = new HashSet<String>();
+
+        for (int index = 0; users.hasNext(); index++) {
+            // Read and validate the user, rejecting it alone if it is invalid
+            User user;
+            try {
+                user = users.next();
+                user.validate();
+                user.normalizeEmail();
+            } catch (UserDomainException ex) {
+                tally.reject(index, ex.getMessage());
+                continue;
+            }
+            if (!chunkEmails.add(user.getEmail())) {
+                tally.reject(index, String.format("User with email %s appears more than once in the import", user.getEmail()));
+                continue;
+            }
+            var phoneNumber = user.getAddress() != null ? user.getAddress().getNormalizedPhoneNumber() : null;
+            if (phoneNumber != null && !chunkPhoneNumbers.add(phoneNumber)) {
+                chunkEmails.remove(user.getEmail());
+                tally.reject(index, String.format("User with phone number %s appears more than once in the import",
+                    user.getAddress().getPhoneNumber()));
+                continue;
+            }
+
+            initializeImportedUser(user);
+            chunkIndexes[chunk.size()] = index;
+            chunk.add(user);
+
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                loadChunk(chunk, chunkIndexes, tally);
+                chunkEmails.clear();
+                chunkPhoneNumbers.clear();
+            }
+        }
+        loadChunk(chunk, chunkIndexes, tally);
+
+        log.info("Imported {} users and rejected {}", tally.imported, tally.rejected);
+        return new UserImportResult(tally.imported, tally.rejected, tally.rejections);
+    }
+
     @Override
     public User updateUser(UUID userId, User user) {
         log.info("Updating user: {}", user);
@@ -84,28 +280,32 @@ public class UserDomainServiceImpl implements UserDomainService {
         // Validate user exists
         var userToUpdate = getUserById(userId);
 
-        var address = Address.builder()
-            .id(userToUpdate.getAddress().getId())
-            .user(
-                User.builder()
-                    .id(userToUpdate.getId())
-                    .build()
-            )
-            .line1(user.getAddress().getLine1())
-            .line2(user.getAddress().getLine2())
-            .city(user.getAddress().getCity())
-            .state(user.getAddress().getState())
-            .postalCode(user.getAddress().getPostalCode())
-            .country(user.getAddress().getCountry())
-            .phoneNumber(user.getAddress().getPhoneNumber())
-            .build();
+        Address address = null;
+        if (user.getAddress() != null) {
+            address = Address.builder()
+                .id(userToUpdate.getAddress() != null ? userToUpdate.getAddress().getId() : idGenerator.nextId())
+                .user(
+                    User.builder()
+                        .id(userToUpdate.getId())
+                        .build()
+                )
+                .line1(user.getAddress().getLine1())
+                .line2(user.getAddress().getLine2())
+                .city(user.getAddress().getCity())
+                .state(user.getAddress().getState())
+                .postalCode(user.getAddress().getPostalCode())
+                .country(user.getAddress().getCountry())
+                .phoneNumber(user.getAddress().getPhoneNumber())
+                .build();
+        }
 
         var newUser = User.builder()
             .id(userToUpdate.getId())
             .name(user.getName())
-            .email(user.getEmail())
+            .email(User.normalizeEmail(user.getEmail()))
             .role(user.getRole())
             .status(user.getStatus())
+            .version(userToUpdate.getVersion())
             .address(address)
             .build();
 
@@ -116,18 +316,83 @@ public class UserDomainServiceImpl implements UserDomainService {
         return userRepository.save(newUser);
     }
 
+    @Override
+    public User patchUser(UUID userId, UserPatch patch) {
+        log.info("Patching user with ID: {} at version: {}", userId, patch.version());
+
+        // Validate the changed fields only
+        if (patch.name() != null && patch.name().isBlank()) {
+            throw new UserDomainException("User name cannot be empty");
+        }
+        if (patch.email() != null && patch.email().isBlank()) {
+            throw new UserDomainException("User email cannot be empty");
+        }
+        var normalizedPatch = new UserPatch(patch.name(), User.normalizeEmail(patch.email()), patch.role(),
+            patch.status(), patch.version());
+
+        // Update in place; a miss is either an unknown user or a stale version
+        if (!userRepository.patch(userId, normalizedPatch)) {
+            if (!userRepository.existsById(userId)) {
+                throw new NotFoundException(String.format("User not found with ID: %s", userId));
+            }
+            throw new VersionConflictException(
+                String.format("User with ID: %s was modified since version %d", userId, patch.version()));
+        }
+
+        return getUserById(userId);
+    }
+
     @Override
     public void deleteUser(UUID userId) {
         log.info("Deleting user with ID: {}", userId);
 
-        // Verify user exists before deletion
-        var user = getUserById(userId);
-
-        // Delete the user
-        userRepository.deleteById(user.getId());
+        // Mark the user deleted in one statement; its rows are removed later by the purge
+        if (!userRepository.markDeleted(userId)) {
+            throw new NotFoundException(String.format("User not found with ID: %s", userId));
+        }
         log.info("User with ID: {} successfully deleted", userId);
     }
 
+    @Override
+    public int purgeDeletedUsers(Instant deletedBefore, int limit) {
+        var purged = userRepository.purgeDeleted(deletedBefore, limit);
+        log.debug("Purged {} deleted users", purged);
+        return purged;
+    }
+
+    private void initializeNewUser(User user) {
+        user.initializeUser(idGenerator.nextId());
+        if (user.getAddress() != null) {
+            user.getAddress().initializeAddress(idGenerator.nextId());
+            user.getAddress().updateUser(user);
+        }
+    }
+
+    /**
+     * Assigns identifiers like {@link #initializeNewUser(User)}, but keeps the status of migrated users.
+     */
+    private void initializeImportedUser(User user) {
+        var status = user.getStatus();
+        initializeNewUser(user);
+        if (status == UserStatus.INACTIVE) {
+            user.deactivate();
+        } else if (status == UserStatus.SUSPENDED) {
+            user.suspend();
+        }
+    }
+
+    private void loadChunk(List<User> chunk, int[] chunkIndexes, ImportTally tally) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        var rejections = userBulkLoader.load(chunk);
+        for (var rejection : rejections) {
+            tally.reject(chunkIndexes[rejection.index()], rejection.error());
+        }
+        tally.imported += chunk.size() - rejections.size();
+        chunk.clear();
+    }
+
     private void validateUser(User user) {
         if (user == null) {
             throw new UserDomainException("User cannot be null");
@@ -139,4 +404,20 @@ public class UserDomainServiceImpl implements UserDomainService {
 
         // Add more validation logic as needed
     }
+
+    private static final class ImportTally {
+
+        private final List<UserCreationResult> rejections = new ArrayList<>();
+
+        private long imported;
+
+        private long rejected;
+
+        private void reject(int index, String error) {
+            rejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(UserCreationResult.rejected(index, error));
+            }
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package com.xeppelin.userservice.domain.service.impl;
+
+import com.xeppelin.userservice.domain.service.IdGenerator;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates time-ordered version 7 UUIDs as specified by RFC 9562.
+ * <p>
+ * The 48 most significant bits hold the Unix time in milliseconds and the 12 bits of {@code rand_a}
+ * hold a sequence, so identifiers sort in generation order and new rows are appended to the right
+ * edge of the primary key index instead of splitting random pages of it. The sequence restarts at
+ * zero every millisecond. When it overflows, or when the clock goes backwards, the timestamp is
+ * carried forward instead, so identifiers stay strictly increasing across all threads of the JVM.
+ * The remaining 62 bits are random.
+ * </p>
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long VERSION = 7L << SEQUENCE_BITS;
+
+    private static final long VARIANT = 0x8000000000000000L;
+
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+
+    private final RandomGenerator random;
+
+    /**
+     * Last millisecond and sequence handed out, packed as {@code millis << 12 | sequence}.
+     */
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC(), new SecureRandom());
+    }
+
+    public UuidV7Generator(Clock clock, RandomGenerator random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public UUID nextId() {
+        var timestamp = nextTimestamp();
+        var mostSignificantBits = (timestamp >>> SEQUENCE_BITS) << 16 | VERSION | (timestamp & 0xFFF);
+        var leastSignificantBits = VARIANT | (random.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextTimestamp() {
+        var now = clock.millis() << SEQUENCE_BITS;
+        while (true) {
+            var last = lastTimestamp.get();
+            var next = now > last ? now : last + 1;
+            if (lastTimestamp.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.xeppelin.userservice.infrastructure.adapter.input.rest;
 
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.ErrorResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.export.UserExportFormat;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.imports.UserImportReader;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserBatchCreateRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserBatchGetRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserPatchRequest;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.CursorPagedResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.PagedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.SlicedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserBatchCreateResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserBatchResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserChangeFeedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserImportResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,7 +24,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.Pageable;
 import org.springframework.http.HttpStatus;
@@ -19,12 +35,16 @@ import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * API definition for user operations.
@@ -38,6 +58,12 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @Tag(name = "Users", description = "APIs for managing users in the Xeppelin platform")
 public interface IUserController {
 
+    int MAX_SCROLL_SIZE = 1000;
+
+    int MAX_SEARCH_SIZE = 100;
+
+    int MAX_CHANGES_SIZE = 1000;
+
     @Operation(
         summary = "Create a new user",
         description = "Creates a new user with the provided details. The email must be unique across the system."
@@ -81,6 +107,90 @@ public interface IUserController {
     UserResponse createUser(@Parameter(description = "User details", required = true)
                             @Valid @RequestBody UserRequest userRequest);
 
+    @Operation(
+        summary = "Create several users",
+        description = "Creates up to " + UserBatchCreateRequest.MAX_USERS + " users in one call using batched inserts. Users whose "
+            + "email is repeated in the batch or already exists are rejected individually while the others are created."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed; see the per-user results",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = UserBatchCreateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - A user of the batch was created concurrently by another request",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid input data or validation errors",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    UserBatchCreateResponse createUsers(@Parameter(description = "Users to create", required = true)
+                                        @Valid @RequestBody UserBatchCreateRequest userBatchCreateRequest);
+
+    @Operation(
+        summary = "Import users in bulk",
+        description = "Imports a large number of users, for instance when migrating from another system. The body is "
+            + "NDJSON with one user per line in the format of the creation endpoint, or CSV with a header row naming "
+            + "the columns as in the CSV export. The body is read as it arrives and loaded in chunks, each committed "
+            + "on its own. Invalid users and taken emails or phone numbers are rejected individually, identified by "
+            + "their zero-based position in the import. An import that fails part way is not rolled back: users of "
+            + "the chunks committed before the failure stay imported, and importing them again rejects them as taken."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import processed; some users may have been rejected",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = UserImportResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Unreadable import, such as a CSV header without a required column",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_JSON_VALUE,
+        consumes = {UserImportReader.NDJSON_VALUE, UserImportReader.CSV_VALUE})
+    UserImportResponse importUsers(HttpServletRequest request) throws IOException;
+
     @Operation(
         summary = "Get a user by ID",
         description = "Retrieves a user by their unique identifier (UUID format)"
@@ -120,6 +230,42 @@ public interface IUserController {
                              )
                              @PathVariable String userId);
 
+    @Operation(
+        summary = "Get several users by ID",
+        description = "Retrieves up to " + UserBatchGetRequest.MAX_IDS + " users in one call. Users are returned in the order "
+            + "of the requested IDs; IDs that do not match any user are listed separately instead of failing the request."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = UserBatchResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Missing, malformed or too many IDs",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping(value = "/batch-get", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    UserBatchResponse getUsersByIds(@Parameter(description = "IDs of the users to retrieve", required = true)
+                                    @Valid @RequestBody UserBatchGetRequest userBatchGetRequest);
+
     @Operation(
         summary = "Get all users",
         description = "Retrieves a paginated list of all users. Supports sorting and filtering."
@@ -146,6 +292,308 @@ public interface IUserController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     PagedResponse<UserResponse> getAllUsers(@ParameterObject Pageable pageable);
 
+    @Operation(
+        summary = "Scroll through all users",
+        description = "Retrieves all users ordered by creation date, one slice at a time. Pass the returned cursor back "
+            + "to get the next slice. Unlike page-number pagination, deep slices are as fast as the first one and no "
+            + "total count is computed; use this to walk the whole user table."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = CursorPagedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    CursorPagedResponse<UserResponse> scrollUsers(@Parameter(description = "Cursor returned by the previous call; omit for the first slice")
+                                                  @RequestParam(required = false) String cursor,
+                                                  @Parameter(description = "Number of users per slice, at most " + MAX_SCROLL_SIZE, example = "100")
+                                                  @RequestParam(defaultValue = "100") int size);
+
+    @Operation(
+        summary = "Search users by name or email",
+        description = "Finds users whose name or email resembles the query, even when it is only part of a word or "
+            + "contains typos. Results are ordered from the closest match down; pass the returned cursor back to get "
+            + "the next slice."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = CursorPagedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Search query too short",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Missing query or invalid cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    CursorPagedResponse<UserResponse> searchUsers(@Parameter(description = "Text to look for in names and emails, at least 3 characters", example = "jon smi")
+                                                  @RequestParam String q,
+                                                  @Parameter(description = "Cursor returned by the previous call; omit for the first slice")
+                                                  @RequestParam(required = false) String cursor,
+                                                  @Parameter(description = "Number of users per slice, at most " + MAX_SEARCH_SIZE, example = "20")
+                                                  @RequestParam(defaultValue = "20") int size);
+
+    @Operation(
+        summary = "Get users changed since a cursor",
+        description = "Returns the users created, updated or deleted after the given cursor, oldest change first, each "
+            + "in its current state. Pass the returned cursor back as since on the next call to keep a copy of the users "
+            + "in sync by reading only what changed; omit it to read every user once. Changes of the last few seconds "
+            + "are held back until their transactions have committed. Deletions are reported until deleted users are "
+            + "purged, a day later by default: a cursor older than that is rejected with 410, and the client must start "
+            + "over without a cursor. Reads that find nothing new still return a cursor that is up to date."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = UserChangeFeedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "410",
+            description = "Cursor older than the retention of deleted users; read the feed again from the start",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    UserChangeFeedResponse getUserChanges(@Parameter(description = "Cursor returned by the previous call; omit to start from the oldest change")
+                                          @RequestParam(required = false) String since,
+                                          @Parameter(description = "Number of changes per call, at most " + MAX_CHANGES_SIZE, example = "100")
+                                          @RequestParam(defaultValue = "100") int size);
+
+    @Operation(
+        summary = "Stream users changed since a cursor",
+        description = "Same feed as the changes endpoint, pushed as server-sent events while the connection stays open. "
+            + "Each event named changes carries a payload of the changes endpoint, and its id is the cursor after it: "
+            + "clients reconnecting with the Last-Event-ID header resume where they left off. The server closes the "
+            + "stream after a few minutes, and sends comments while there is nothing new, with an up-to-date cursor as "
+            + "their id. Cursors older than the retention of deleted users are rejected as by the changes endpoint."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream opened",
+            content = @Content(
+                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = UserChangeFeedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "410",
+            description = "Cursor older than the retention of deleted users; read the feed again from the start",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid cursor",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamUserChanges(@Parameter(description = "Cursor to start after; omit to start from the oldest change")
+                                 @RequestParam(required = false) String since,
+                                 @Parameter(description = "Id of the last event received, sent by clients when reconnecting; takes precedence over since")
+                                 @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
+
+    @Operation(
+        summary = "Get users by role",
+        description = "Retrieves a paginated list of the users with the given role, optionally restricted to one status. "
+            + "Users are ordered by ID; sort parameters are ignored."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = PagedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Unknown role or status",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    PagedResponse<UserResponse> getUsersByRole(@Parameter(description = "Role of the users", required = true, example = "ORGANIZER")
+                                               @RequestParam UserRole role,
+                                               @Parameter(description = "Status of the users; omit for any status", example = "ACTIVE")
+                                               @RequestParam(required = false) UserStatus status,
+                                               @ParameterObject Pageable pageable);
+
+    @Operation(
+        summary = "Get users by role without totals",
+        description = "Same as the role filter but without counting the matching users: the response only tells whether "
+            + "a next page exists. Prefer this when no total is displayed."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = SlicedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Unknown role or status",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/filter/slice", produces = MediaType.APPLICATION_JSON_VALUE)
+    SlicedResponse<UserResponse> getUserSliceByRole(@Parameter(description = "Role of the users", required = true, example = "ORGANIZER")
+                                                    @RequestParam UserRole role,
+                                                    @Parameter(description = "Status of the users; omit for any status", example = "ACTIVE")
+                                                    @RequestParam(required = false) UserStatus status,
+                                                    @ParameterObject Pageable pageable);
+
+    @Operation(
+        summary = "Export users",
+        description = "Streams every user matching the optional filters, as NDJSON (one JSON user per line) or CSV. "
+            + "Users are written as they are read from the database, in no particular order, so the export runs "
+            + "in constant memory whatever its size. Prefer this over paging through all users. Errors are rendered as "
+            + "JSON as long as no user was sent yet; a failure later on cuts the export short."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users exported successfully",
+            content = {
+                @Content(mediaType = UserExportFormat.NDJSON_VALUE),
+                @Content(mediaType = UserExportFormat.CSV_VALUE)
+            }
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Unknown role, status or format",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/export",
+        produces = {UserExportFormat.NDJSON_VALUE, UserExportFormat.CSV_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    void exportUsers(@Parameter(description = "Role of the users; omit for any role", example = "ORGANIZER")
+                     @RequestParam(required = false) UserRole role,
+                     @Parameter(description = "Status of the users; omit for any status", example = "ACTIVE")
+                     @RequestParam(required = false) UserStatus status,
+                     @Parameter(description = "Country of the users' address; omit for any country", example = "USA")
+                     @RequestParam(required = false) String country,
+                     @Parameter(description = "Format of the export", example = "CSV")
+                     @RequestParam(defaultValue = "NDJSON") UserExportFormat format,
+                     HttpServletResponse response) throws IOException;
+
     @Operation(
         summary = "Update a user",
         description = "Updates an existing user with the provided details. All fields in the request will replace the existing values."
@@ -203,9 +651,68 @@ public interface IUserController {
                             @Parameter(description = "Updated user details", required = true)
                             @Valid @RequestBody UserRequest userRequest);
 
+    @Operation(
+        summary = "Partially update a user",
+        description = "Changes only the fields present in the request. The request carries the version returned by the "
+            + "last read of the user; if the user was modified since, nothing is changed and 409 is returned."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "User updated successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = UserResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "User not found with the provided ID",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Conflict - The user was modified since the given version, or the email belongs to another user",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid input data or validation errors",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @ResponseStatus(HttpStatus.OK)
+    @PatchMapping(value = "/{userId}", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    UserResponse patchUser(@Parameter(
+                               description = "User unique identifier (UUID format)",
+                               required = true,
+                               example = "550e8400-e29b-41d4-a716-446655440000"
+                           )
+                           @PathVariable String userId,
+                           @Parameter(description = "Fields to change and the version they are based on", required = true)
+                           @Valid @RequestBody UserPatchRequest userPatchRequest);
+
     @Operation(
         summary = "Delete a user",
-        description = "Permanently deletes a user by their unique identifier. This action cannot be undone."
+        description = "Deletes a user by their unique identifier. The user disappears immediately and its data is "
+            + "removed in the background shortly after. This action cannot be undone."
     )
     @ApiResponses(value = {
         @ApiResponse(
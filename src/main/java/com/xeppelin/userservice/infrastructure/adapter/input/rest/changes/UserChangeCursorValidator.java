@@ -0,0 +1,39 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.changes;
+
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.ExpiredCursorException;
+import com.xeppelin.userservice.infrastructure.config.properties.UserPurgeProperties;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects the change feed cursors older than the retention of deleted users.
+ * <p>
+ * The feed reports a deletion only until the deleted user is purged, so a client resuming from a
+ * cursor older than the retention could miss deletions without knowing it, and must resynchronize
+ * instead. A client reading the feed regularly never holds such a cursor, since a read that finds no
+ * more changes moves the cursor up to date.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeCursorValidator {
+
+    private final UserPurgeProperties purgeSettings;
+
+    /**
+     * @param cursor the cursor sent by the client, or {@code null} to read the feed from the start
+     * @throws ExpiredCursorException if deletions made after the cursor may already have been purged
+     */
+    public void validate(UserChangeCursor cursor) {
+        if (cursor == null || !purgeSettings.isEnabled()) {
+            return;
+        }
+        var purgedBefore = Instant.now().minus(purgeSettings.getRetention());
+        if (cursor.modifiedDate().isBefore(purgedBefore)) {
+            throw new ExpiredCursorException(String.format("Cursor at %s is older than the retention of deleted users (%s)",
+                cursor.modifiedDate(), purgeSettings.getRetention()));
+        }
+    }
+}
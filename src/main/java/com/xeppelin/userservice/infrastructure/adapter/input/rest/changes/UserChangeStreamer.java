@@ -0,0 +1,145 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.changes;
+
+import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserChangeCursorCodec;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import com.xeppelin.userservice.infrastructure.config.properties.UserChangeStreamProperties;
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the change feed to clients as server-sent events.
+ * <p>
+ * Each stream reads the feed on a fixed delay from a small pool shared by all streams, so an open
+ * stream holds no request thread and costs one indexed read per interval. Every event carries the
+ * changes of one slice, with the cursor after them as its id: a client that reconnects with
+ * {@code Last-Event-ID} resumes where it left off. Reads that find nothing send a comment instead,
+ * which keeps proxies from closing the idle connection and reveals disconnected clients.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UserChangeStreamer implements DisposableBean {
+
+    static final String EVENT_NAME = "changes";
+
+    private final UserManagementUseCase userManagementUseCase;
+
+    private final UserControllerMapper userControllerMapper;
+
+    private final UserChangeStreamProperties settings;
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    public UserChangeStreamer(UserManagementUseCase userManagementUseCase,
+                              UserControllerMapper userControllerMapper,
+                              UserChangeStreamProperties settings) {
+        this.userManagementUseCase = userManagementUseCase;
+        this.userControllerMapper = userControllerMapper;
+        this.settings = settings;
+        this.executor = new ScheduledThreadPoolExecutor(settings.getPoolSize(), new CustomizableThreadFactory("user-changes-"));
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Opens a stream of the changes made after {@code cursor}, or of every change when it is {@code null}.
+     */
+    public SseEmitter stream(UserChangeCursor cursor) {
+        var emitter = new SseEmitter(settings.getTimeout().toMillis());
+        var stream = new Stream(emitter, cursor);
+        emitter.onCompletion(stream::stop);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> stream.stop());
+        stream.start(executor.scheduleWithFixedDelay(stream::poll, 0, settings.getPollInterval().toMillis(), TimeUnit.MILLISECONDS));
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * State of one stream; only ever polled by one thread at a time.
+     */
+    final class Stream {
+
+        private final SseEmitter emitter;
+
+        private UserChangeCursor cursor;
+
+        private ScheduledFuture<?> task;
+
+        private boolean stopped;
+
+        Stream(SseEmitter emitter, UserChangeCursor cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        synchronized void start(ScheduledFuture<?> scheduled) {
+            task = scheduled;
+            if (stopped) {
+                task.cancel(false);
+            }
+        }
+
+        /**
+         * Stops polling; the stream may have ended before {@link #start} was even called.
+         */
+        synchronized void stop() {
+            stopped = true;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        void poll() {
+            try {
+                for (int batch = 0; batch < settings.getMaxBatchesPerPoll(); batch++) {
+                    var slice = userManagementUseCase.getUserChanges(cursor, settings.getBatchSize());
+                    if (slice.changes().isEmpty()) {
+                        // The heartbeat carries the caught-up cursor, so that a client reconnecting after
+                        // a quiet period does not resume from a cursor the purge has since passed
+                        cursor = slice.nextCursor();
+                        if (batch == 0) {
+                            emitter.send(SseEmitter.event().id(UserChangeCursorCodec.encode(cursor)).comment("heartbeat"));
+                        }
+                        return;
+                    }
+                    emitter.send(SseEmitter.event()
+                        .id(UserChangeCursorCodec.encode(slice.nextCursor()))
+                        .name(EVENT_NAME)
+                        .data(userControllerMapper.fromUserChangeSliceToUserChangeFeedResponse(slice), MediaType.APPLICATION_JSON));
+                    cursor = slice.nextCursor();
+                    if (!slice.hasMore()) {
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away or the stream was completed meanwhile
+                log.debug("Closing user change stream: {}", ex.getMessage());
+                stop();
+                emitter.complete();
+            } catch (DataAccessException ex) {
+                // Retried on the next poll, from the same cursor
+                log.warn("Failed to read user changes: {}", ex.getMessage());
+            } catch (RuntimeException ex) {
+                // An exception escaping the task would silently end the polling
+                log.error("User change stream failed", ex);
+                stop();
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
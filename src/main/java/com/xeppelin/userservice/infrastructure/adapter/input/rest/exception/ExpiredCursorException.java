@@ -0,0 +1,11 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.exception;
+
+/**
+ * Thrown when a change feed cursor is older than the feed can still resume from.
+ */
+public class ExpiredCursorException extends RuntimeException {
+
+    public ExpiredCursorException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package com.xeppelin.userservice.infrastructure.adapter.input.rest.exception;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.xeppelin.userservice.domain.exception.NotFoundException;
 import com.xeppelin.userservice.domain.exception.UserDomainException;
+import com.xeppelin.userservice.domain.exception.VersionConflictException;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,8 +19,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Global exception handler for the User Service API.
@@ -122,6 +125,102 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
 
+    @ExceptionHandler({MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class})
+    @ApiResponse(
+        responseCode = "422",
+        description = "Missing or invalid request parameter",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<ErrorResponse> handleRequestParameterException(
+        Exception ex,
+        HttpServletRequest request) {
+
+        log.warn("Invalid request parameter: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+            .error("INVALID_PARAMETER")
+            .message("Missing or invalid request parameter")
+            .details(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ApiResponse(
+        responseCode = "422",
+        description = "Invalid pagination cursor",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+        InvalidCursorException ex,
+        HttpServletRequest request) {
+
+        log.warn("Invalid cursor: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+            .error("INVALID_CURSOR")
+            .message("Invalid pagination cursor")
+            .details("The cursor must be a value returned by a previous call, passed back unchanged")
+            .path(request.getRequestURI())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    @ExceptionHandler(ExpiredCursorException.class)
+    @ApiResponse(
+        responseCode = "410",
+        description = "Change feed cursor too old to resume from",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<ErrorResponse> handleExpiredCursorException(
+        ExpiredCursorException ex,
+        HttpServletRequest request) {
+
+        log.warn("Expired cursor: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.GONE.value())
+            .error("EXPIRED_CURSOR")
+            .message("Change feed cursor has expired")
+            .details("Deletions after this cursor may have been purged; resynchronize by reading the feed from the start")
+            .path(request.getRequestURI())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    @ApiResponse(
+        responseCode = "422",
+        description = "Unreadable import",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<ErrorResponse> handleInvalidImportException(
+        InvalidImportException ex,
+        HttpServletRequest request) {
+
+        log.warn("Invalid import: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+            .error("INVALID_IMPORT")
+            .message("Unreadable import")
+            .details(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     @ApiResponse(
         responseCode = "404",
@@ -146,6 +245,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    @ApiResponse(
+        responseCode = "409",
+        description = "Stale version",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(
+        VersionConflictException ex,
+        HttpServletRequest request) {
+
+        log.warn("Version conflict: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("VERSION_CONFLICT")
+            .message("The user was modified by another request")
+            .details(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(UserDomainException.class)
     @ApiResponse(
         responseCode = "409",
@@ -0,0 +1,11 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.exception;
+
+/**
+ * Thrown when a pagination cursor sent by a client cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
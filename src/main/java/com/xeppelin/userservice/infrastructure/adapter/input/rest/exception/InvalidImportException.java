@@ -0,0 +1,11 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.exception;
+
+/**
+ * Thrown when an import cannot be read at all, as opposed to a single user of it being invalid.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.export;
+
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.AddressResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes users as RFC 4180 CSV with a header row. Users without an address get empty address columns.
+ */
+final class CsvUserExportWriter implements UserExportWriter {
+
+    private static final String HEADER = "id,name,email,role,status,version,"
+        + "line1,line2,city,state,postal_code,country,phone_number";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    CsvUserExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(UserResponse user) throws IOException {
+        var address = user.getAddress() != null ? user.getAddress() : new AddressResponse();
+        writeField(user.getId(), true);
+        writeField(user.getName(), true);
+        writeField(user.getEmail(), true);
+        writeField(user.getRole(), true);
+        writeField(user.getStatus(), true);
+        writeField(user.getVersion(), true);
+        writeField(address.getLine1(), true);
+        writeField(address.getLine2(), true);
+        writeField(address.getCity(), true);
+        writeField(address.getState(), true);
+        writeField(address.getPostalCode(), true);
+        writeField(address.getCountry(), true);
+        writeField(address.getPhoneNumber(), false);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value, boolean delimited) throws IOException {
+        if (value != null) {
+            writer.write(escape(value.toString()));
+        }
+        if (delimited) {
+            writer.write(',');
+        }
+    }
+
+    /**
+     * Quotes the value, doubling its quotes, only if it contains a delimiter, a quote or a line break.
+     */
+    static String escape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializes users with the application {@link ObjectMapper}, so that each line matches the body
+ * of {@code GET /users/{userId}}. A single generator is reused for all users.
+ */
+final class NdjsonUserExportWriter implements UserExportWriter {
+
+    private final JsonGenerator generator;
+
+    private final ObjectWriter userWriter;
+
+    NdjsonUserExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        // Lines are separated explicitly rather than by the default root value separator, a space.
+        this.generator.setRootValueSeparator(null);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.userWriter = objectMapper.writerFor(UserResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(UserResponse user) throws IOException {
+        userWriter.writeValue(generator, user);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
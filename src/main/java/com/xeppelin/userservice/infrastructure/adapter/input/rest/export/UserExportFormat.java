@@ -0,0 +1,30 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Formats the user export can be written in.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserExportFormat {
+
+    /**
+     * One JSON user per line, as returned by the other endpoints.
+     */
+    NDJSON(UserExportFormat.NDJSON_VALUE, "users.ndjson"),
+
+    /**
+     * One user per line, with the address flattened into columns.
+     */
+    CSV(UserExportFormat.CSV_VALUE, "users.csv");
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static final String CSV_VALUE = "text/csv;charset=UTF-8";
+
+    private final String contentType;
+
+    private final String fileName;
+}
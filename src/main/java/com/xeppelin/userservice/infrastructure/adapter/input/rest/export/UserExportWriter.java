@@ -0,0 +1,25 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported users to an output stream one at a time. Output is buffered and only flushed
+ * when the buffer is full or on {@link #flush()}, so that users are not sent one packet each.
+ */
+public interface UserExportWriter {
+
+    void write(UserResponse user) throws IOException;
+
+    void flush() throws IOException;
+
+    static UserExportWriter create(UserExportFormat format, OutputStream outputStream, ObjectMapper objectMapper)
+        throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonUserExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvUserExportWriter(outputStream);
+        };
+    }
+}
@@ -1,18 +1,49 @@
 package com.xeppelin.userservice.infrastructure.adapter.input.rest.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.IUserController;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.changes.UserChangeCursorValidator;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.changes.UserChangeStreamer;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.export.UserExportFormat;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.export.UserExportWriter;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.imports.UserImportReader;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserChangeCursorCodec;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserCursorCodec;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserSearchCursorCodec;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserBatchCreateRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserBatchGetRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserPatchRequest;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.CursorPagedResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.PagedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.SlicedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserBatchCreateResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserBatchResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserChangeFeedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserImportResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.converters.models.Pageable;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -23,6 +54,12 @@ public class UserControllerImpl implements IUserController {
 
     private final UserControllerMapper userControllerMapper;
 
+    private final ObjectMapper objectMapper;
+
+    private final UserChangeStreamer userChangeStreamer;
+
+    private final UserChangeCursorValidator userChangeCursorValidator;
+
     @Override
     public UserResponse createUser(UserRequest userRequest) {
         log.info("Creating user with request: {}", userRequest);
@@ -31,6 +68,53 @@ public class UserControllerImpl implements IUserController {
         return userControllerMapper.fromUserToUserResponse(newUser);
     }
 
+    @Override
+    public UserBatchCreateResponse createUsers(UserBatchCreateRequest userBatchCreateRequest) {
+        log.info("Creating batch of {} users", userBatchCreateRequest.users().size());
+        var users = userBatchCreateRequest.users()
+            .stream()
+            .map(userControllerMapper::fromUserRequestToUser)
+            .toList();
+        var results = userManagementUseCase.createUsers(users);
+
+        var itemResults = results.stream()
+            .map(result -> UserBatchCreateResponse.ItemResult.builder()
+                .index(result.index())
+                .id(result.isCreated() ? result.user().getId().toString() : null)
+                .error(result.error())
+                .build())
+            .toList();
+        var created = (int) results.stream().filter(UserCreationResult::isCreated).count();
+
+        return UserBatchCreateResponse.builder()
+            .created(created)
+            .rejected(results.size() - created)
+            .results(itemResults)
+            .build();
+    }
+
+    @Override
+    public UserImportResponse importUsers(HttpServletRequest request) throws IOException {
+        log.info("Importing users from {}", request.getContentType());
+        var contentType = MediaType.parseMediaType(request.getContentType());
+        var users = UserImportReader.create(contentType, request.getInputStream(), objectMapper, userControllerMapper);
+        var result = userManagementUseCase.importUsers(users);
+
+        var rejections = result.rejections()
+            .stream()
+            .map(rejection -> UserBatchCreateResponse.ItemResult.builder()
+                .index(rejection.index())
+                .error(rejection.error())
+                .build())
+            .toList();
+
+        return UserImportResponse.builder()
+            .imported(result.imported())
+            .rejected(result.rejected())
+            .rejections(rejections)
+            .build();
+    }
+
     @Override
     public UserResponse getUserById(String userId) {
         log.info("Fetching user with ID: {}", userId);
@@ -38,6 +122,27 @@ public class UserControllerImpl implements IUserController {
         return userControllerMapper.fromUserToUserResponse(user);
     }
 
+    @Override
+    public UserBatchResponse getUsersByIds(UserBatchGetRequest userBatchGetRequest) {
+        log.info("Fetching {} users by ID", userBatchGetRequest.ids().size());
+        var users = userManagementUseCase.getUsersByIds(userBatchGetRequest.ids());
+
+        var foundIds = users.stream()
+            .map(User::getId)
+            .collect(Collectors.toSet());
+        var notFound = userBatchGetRequest.ids()
+            .stream()
+            .distinct()
+            .filter(id -> !foundIds.contains(id))
+            .map(UUID::toString)
+            .toList();
+
+        return UserBatchResponse.builder()
+            .users(users.stream().map(userControllerMapper::fromUserToUserResponse).toList())
+            .notFound(notFound)
+            .build();
+    }
+
     @Override
     public PagedResponse<UserResponse> getAllUsers(Pageable pageable) {
         log.info("Fetching all users with pagination: {}", pageable);
@@ -65,6 +170,139 @@ public class UserControllerImpl implements IUserController {
             .build();
     }
 
+    @Override
+    public CursorPagedResponse<UserResponse> scrollUsers(String cursor, int size) {
+        log.info("Scrolling users from cursor: {} with size: {}", cursor, size);
+        var limit = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        var slice = userManagementUseCase.getUsersAfter(UserCursorCodec.decode(cursor), limit);
+
+        var userResponses = slice.users()
+            .stream()
+            .map(userControllerMapper::fromUserToUserResponse)
+            .toList();
+
+        return CursorPagedResponse.<UserResponse>builder()
+            .content(userResponses)
+            .nextCursor(UserCursorCodec.encode(slice.nextCursor()))
+            .build();
+    }
+
+    @Override
+    public CursorPagedResponse<UserResponse> searchUsers(String q, String cursor, int size) {
+        log.info("Searching users matching: {} from cursor: {} with size: {}", q, cursor, size);
+        var limit = Math.clamp(size, 1, MAX_SEARCH_SIZE);
+        var slice = userManagementUseCase.searchUsers(q, UserSearchCursorCodec.decode(cursor), limit);
+
+        var userResponses = slice.users()
+            .stream()
+            .map(userControllerMapper::fromUserToUserResponse)
+            .toList();
+
+        return CursorPagedResponse.<UserResponse>builder()
+            .content(userResponses)
+            .nextCursor(UserSearchCursorCodec.encode(slice.nextCursor()))
+            .build();
+    }
+
+    @Override
+    public UserChangeFeedResponse getUserChanges(String since, int size) {
+        log.debug("Fetching user changes since cursor: {} with size: {}", since, size);
+        var limit = Math.clamp(size, 1, MAX_CHANGES_SIZE);
+        var cursor = UserChangeCursorCodec.decode(since);
+        userChangeCursorValidator.validate(cursor);
+        var slice = userManagementUseCase.getUserChanges(cursor, limit);
+        return userControllerMapper.fromUserChangeSliceToUserChangeFeedResponse(slice);
+    }
+
+    @Override
+    public SseEmitter streamUserChanges(String since, String lastEventId) {
+        var cursor = lastEventId != null && !lastEventId.isBlank() ? lastEventId : since;
+        log.info("Streaming user changes since cursor: {}", cursor);
+        var decoded = UserChangeCursorCodec.decode(cursor);
+        userChangeCursorValidator.validate(decoded);
+        return userChangeStreamer.stream(decoded);
+    }
+
+    @Override
+    public PagedResponse<UserResponse> getUsersByRole(UserRole role, UserStatus status, Pageable pageable) {
+        log.info("Fetching users with role: {} and status: {} with pagination: {}", role, status, pageable);
+        var springDataPageable = PageRequest.of(pageable.getPage(), pageable.getSize());
+        var usersPage = userManagementUseCase.getUsersByRole(role, status, springDataPageable);
+
+        var userResponses = usersPage.getContent()
+            .stream()
+            .map(userControllerMapper::fromUserToUserResponse)
+            .toList();
+
+        var metadata = new PagedResponse.PageMetadata(
+            usersPage.getSize(),
+            usersPage.getNumber(),
+            usersPage.getTotalElements(),
+            usersPage.getTotalPages()
+        );
+
+        return PagedResponse.<UserResponse>builder()
+            .content(userResponses)
+            .metadata(metadata)
+            .build();
+    }
+
+    @Override
+    public SlicedResponse<UserResponse> getUserSliceByRole(UserRole role, UserStatus status, Pageable pageable) {
+        log.info("Fetching slice of users with role: {} and status: {} with pagination: {}", role, status, pageable);
+        var springDataPageable = PageRequest.of(pageable.getPage(), pageable.getSize());
+        var usersSlice = userManagementUseCase.getUserSliceByRole(role, status, springDataPageable);
+
+        var userResponses = usersSlice.getContent()
+            .stream()
+            .map(userControllerMapper::fromUserToUserResponse)
+            .toList();
+
+        var metadata = new SlicedResponse.SliceMetadata(
+            usersSlice.getSize(),
+            usersSlice.getNumber(),
+            usersSlice.hasNext()
+        );
+
+        return SlicedResponse.<UserResponse>builder()
+            .content(userResponses)
+            .metadata(metadata)
+            .build();
+    }
+
+    @Override
+    public void exportUsers(UserRole role, UserStatus status, String country, UserExportFormat format,
+                            HttpServletResponse response) throws IOException {
+        log.info("Exporting users with role: {}, status: {} and country: {} as {}", role, status, country, format);
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(format.getFileName()).build().toString());
+
+        // Users are written while the read transaction is still open, straight from the cursor
+        var writer = UserExportWriter.create(format, response.getOutputStream(), objectMapper);
+        long exported;
+        try {
+            exported = userManagementUseCase.exportUsers(new UserFilter(role, status, country), user -> {
+                try {
+                    writer.write(userControllerMapper.fromUserToUserResponse(user));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            if (response.isCommitted()) {
+                // The status is already sent; the error can only cut the export short
+                log.error("Export failed after the response was sent: {}", ex.getMessage());
+            } else {
+                // Nothing is sent yet: drop the export headers so that the error is rendered as JSON
+                response.reset();
+            }
+            throw ex;
+        }
+        writer.flush();
+        log.info("Exported {} users", exported);
+    }
+
     @Override
     public UserResponse updateUser(String userId, UserRequest userRequest) {
         log.info("Updating user with ID: {} and request: {}", userId, userRequest);
@@ -73,6 +311,14 @@ public class UserControllerImpl implements IUserController {
         return userControllerMapper.fromUserToUserResponse(updatedUser);
     }
 
+    @Override
+    public UserResponse patchUser(String userId, UserPatchRequest userPatchRequest) {
+        log.info("Patching user with ID: {} and request: {}", userId, userPatchRequest);
+        var patch = userControllerMapper.fromUserPatchRequestToUserPatch(userPatchRequest);
+        var patchedUser = userManagementUseCase.patchUser(UUID.fromString(userId), patch);
+        return userControllerMapper.fromUserToUserResponse(patchedUser);
+    }
+
     @Override
     public void deleteUser(String userId) {
         log.info("Deleting user with ID: {}", userId);
@@ -0,0 +1,172 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.imports;
+
+import com.xeppelin.userservice.domain.exception.UserDomainException;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.InvalidImportException;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads RFC 4180 CSV with a header row naming the columns, in the layout of the CSV export so that
+ * an export can be imported back. Columns are matched by name, unknown ones such as {@code id} are
+ * ignored, and empty fields are read as absent. A user without any address column set has no address.
+ */
+final class CsvUserImportReader implements UserImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "email", "role");
+
+    private static final List<String> ADDRESS_COLUMNS =
+        List.of("line1", "line2", "city", "state", "postal_code", "country", "phone_number");
+
+    private final BufferedReader reader;
+
+    private final UserControllerMapper userControllerMapper;
+
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    private List<String> nextRecord;
+
+    CsvUserImportReader(BufferedReader reader, UserControllerMapper userControllerMapper) {
+        this.reader = reader;
+        this.userControllerMapper = userControllerMapper;
+
+        var header = readRecord();
+        if (header == null) {
+            throw new InvalidImportException("The CSV import has no header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i) != null) {
+                columnIndexes.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        for (var column : REQUIRED_COLUMNS) {
+            if (!columnIndexes.containsKey(column)) {
+                throw new InvalidImportException("The CSV header has no " + column + " column");
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextRecord == null) {
+            var record = readRecord();
+            if (record == null) {
+                return false;
+            }
+            if (record.size() > 1 || record.get(0) != null) {
+                nextRecord = record;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var record = nextRecord;
+        nextRecord = null;
+
+        AddressRequest address = null;
+        if (ADDRESS_COLUMNS.stream().anyMatch(column -> field(record, column) != null)) {
+            address = new AddressRequest(
+                field(record, "line1"),
+                field(record, "line2"),
+                field(record, "city"),
+                field(record, "state"),
+                field(record, "postal_code"),
+                field(record, "country"),
+                field(record, "phone_number")
+            );
+        }
+        var userRequest = new UserRequest(
+            field(record, "name"),
+            field(record, "email"),
+            parseEnum(UserRole.class, field(record, "role")),
+            parseEnum(UserStatus.class, field(record, "status")),
+            address
+        );
+        return userControllerMapper.fromUserRequestToUser(userRequest);
+    }
+
+    private String field(List<String> record, String column) {
+        var index = columnIndexes.get(column);
+        return index != null && index < record.size() ? record.get(index) : null;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new UserDomainException(String.format("Invalid %s value '%s'", type.getSimpleName(), value));
+        }
+    }
+
+    /**
+     * Reads the fields of the next record, which may span several lines when a quoted field holds line
+     * breaks, or returns {@code null} at the end of the input. Empty fields are returned as {@code null}.
+     */
+    private List<String> readRecord() {
+        try {
+            var c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            var fields = new ArrayList<String>(Math.max(columnIndexes.size(), 1));
+            var field = new StringBuilder();
+            var quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        quoted = false;
+                    } else if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                        field.append('"');
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.isEmpty() ? null : field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == -1) {
+                    fields.add(field.isEmpty() ? null : field.toString());
+                    if (c == '\r') {
+                        // Consume the line feed of a CRLF line separator
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
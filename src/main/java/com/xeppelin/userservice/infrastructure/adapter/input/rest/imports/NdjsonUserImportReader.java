@@ -0,0 +1,67 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.xeppelin.userservice.domain.exception.UserDomainException;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads one {@link UserRequest} per line, in the format of {@code POST /users}. Each line is parsed on
+ * its own, so a malformed line only rejects the user on it. Blank lines are skipped.
+ */
+final class NdjsonUserImportReader implements UserImportReader {
+
+    private final BufferedReader reader;
+
+    private final ObjectReader userRequestReader;
+
+    private final UserControllerMapper userControllerMapper;
+
+    private String nextLine;
+
+    NdjsonUserImportReader(BufferedReader reader, ObjectMapper objectMapper, UserControllerMapper userControllerMapper) {
+        this.reader = reader;
+        this.userRequestReader = objectMapper.readerFor(UserRequest.class);
+        this.userControllerMapper = userControllerMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                var line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var line = nextLine;
+        nextLine = null;
+        try {
+            UserRequest userRequest = userRequestReader.readValue(line);
+            return userControllerMapper.fromUserRequestToUser(userRequest);
+        } catch (JsonProcessingException ex) {
+            throw new UserDomainException("Malformed user: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.InvalidImportException;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import org.springframework.http.MediaType;
+
+/**
+ * Reads the users of an import one at a time from the request body, so that the body is never held
+ * in memory. {@link #next()} throws a {@link com.xeppelin.userservice.domain.exception.UserDomainException}
+ * when a user cannot be read, after which reading resumes with the next user.
+ */
+public interface UserImportReader extends Iterator<User> {
+
+    String NDJSON_VALUE = "application/x-ndjson";
+
+    String CSV_VALUE = "text/csv";
+
+    static UserImportReader create(MediaType contentType, InputStream inputStream, ObjectMapper objectMapper,
+                                   UserControllerMapper userControllerMapper) {
+        var charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        var reader = new BufferedReader(new InputStreamReader(inputStream, charset));
+        if (MediaType.parseMediaType(NDJSON_VALUE).isCompatibleWith(contentType)) {
+            return new NdjsonUserImportReader(reader, objectMapper, userControllerMapper);
+        }
+        if (MediaType.parseMediaType(CSV_VALUE).isCompatibleWith(contentType)) {
+            return new CsvUserImportReader(reader, userControllerMapper);
+        }
+        throw new InvalidImportException("Unsupported import format " + contentType);
+    }
+}
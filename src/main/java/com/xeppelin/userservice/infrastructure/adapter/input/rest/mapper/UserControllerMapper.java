@@ -2,9 +2,15 @@ package com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper;
 
 import com.xeppelin.userservice.domain.model.Address;
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChange;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserPatch;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserPatchRequest;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.AddressResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserChangeFeedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserChangeResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
 import org.mapstruct.Builder;
 import org.mapstruct.Mapper;
@@ -25,6 +31,33 @@ public interface UserControllerMapper {
         return uuid != null ? uuid.toString() : null;
     }
 
+    @Named("fromUserChangeSliceToUserChangeFeedResponse")
+    default UserChangeFeedResponse fromUserChangeSliceToUserChangeFeedResponse(UserChangeSlice slice) {
+        if (slice == null) {
+            return null;
+        }
+
+        return UserChangeFeedResponse.builder()
+            .content(slice.changes().stream().map(this::fromUserChangeToUserChangeResponse).toList())
+            .nextCursor(UserChangeCursorCodec.encode(slice.nextCursor()))
+            .hasMore(slice.hasMore())
+            .build();
+    }
+
+    @Named("fromUserChangeToUserChangeResponse")
+    default UserChangeResponse fromUserChangeToUserChangeResponse(UserChange change) {
+        if (change == null) {
+            return null;
+        }
+
+        return UserChangeResponse.builder()
+            .id(uuidToString(change.id()))
+            .deleted(change.isDeleted())
+            .modifiedDate(change.modifiedDate())
+            .user(fromUserToUserResponse(change.user()))
+            .build();
+    }
+
     @Named("fromUserRequestToUser")
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
@@ -43,6 +76,21 @@ public interface UserControllerMapper {
             .build();
     }
 
+    @Named("fromUserPatchRequestToUserPatch")
+    default UserPatch fromUserPatchRequestToUserPatch(UserPatchRequest userPatchRequest) {
+        if (userPatchRequest == null) {
+            return null;
+        }
+
+        return new UserPatch(
+            userPatchRequest.name(),
+            userPatchRequest.email(),
+            userPatchRequest.role(),
+            userPatchRequest.status(),
+            userPatchRequest.version()
+        );
+    }
+
     @Named("fromAddressToAddressResponse")
     default AddressResponse fromAddressToAddressResponse(Address address) {
         if (address == null) {
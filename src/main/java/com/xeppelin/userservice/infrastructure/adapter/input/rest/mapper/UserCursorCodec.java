@@ -0,0 +1,45 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper;
+
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Turns a {@link UserCursor} into the opaque token handed to clients and back. The token is the
+ * URL-safe Base64 of {@code <createdDate>,<id>}; clients must not rely on its content.
+ */
+public final class UserCursorCodec {
+
+    private static final String SEPARATOR = ",";
+
+    private UserCursorCodec() {
+    }
+
+    public static String encode(UserCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        var raw = cursor.createdDate() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Missing cursor separator");
+            }
+            return new UserCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token, ex);
+        }
+    }
+}
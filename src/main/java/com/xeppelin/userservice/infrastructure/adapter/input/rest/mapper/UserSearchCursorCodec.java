@@ -0,0 +1,48 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper;
+
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Turns a {@link UserSearchCursor} into the opaque token handed to search clients and back. The
+ * token is the URL-safe Base64 of {@code <score>,<id>}; clients must not rely on its content.
+ */
+public final class UserSearchCursorCodec {
+
+    private static final String SEPARATOR = ",";
+
+    private UserSearchCursorCodec() {
+    }
+
+    public static String encode(UserSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        // Float.toString round-trips exactly, so the next slice resumes on the very same score
+        var raw = Float.toString(cursor.score()) + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Missing cursor separator");
+            }
+            var score = Float.parseFloat(parts[0]);
+            if (!Float.isFinite(score)) {
+                throw new IllegalArgumentException("Score is not finite");
+            }
+            return new UserSearchCursor(score, UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token, ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "Request payload for creating several users at once")
+public record UserBatchCreateRequest(
+
+    @ArraySchema(
+        schema = @Schema(implementation = UserRequest.class),
+        minItems = 1,
+        maxItems = UserBatchCreateRequest.MAX_USERS
+    )
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = UserBatchCreateRequest.MAX_USERS, message = "At most " + UserBatchCreateRequest.MAX_USERS + " users are allowed")
+    List<@NotNull(message = "User cannot be null") @Valid UserRequest> users
+) {
+
+    public static final int MAX_USERS = 1000;
+}
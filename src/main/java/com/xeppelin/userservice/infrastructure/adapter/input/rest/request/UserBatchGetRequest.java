@@ -0,0 +1,25 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Request payload for retrieving several users at once")
+public record UserBatchGetRequest(
+
+    @ArraySchema(
+        schema = @Schema(description = "User unique identifier (UUID format)", example = "550e8400-e29b-41d4-a716-446655440000"),
+        minItems = 1,
+        maxItems = UserBatchGetRequest.MAX_IDS
+    )
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = UserBatchGetRequest.MAX_IDS, message = "At most " + UserBatchGetRequest.MAX_IDS + " user IDs are allowed")
+    List<@NotNull(message = "User ID cannot be null") UUID> ids
+) {
+
+    public static final int MAX_IDS = 500;
+}
@@ -0,0 +1,58 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.request;
+
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Schema(description = "Request payload for partially updating a user; omitted fields are left unchanged")
+public record UserPatchRequest(
+
+    @Schema(
+        description = "User's full name",
+        example = "John Doe",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    @Pattern(regexp = ".*\\S.*", message = "Name cannot be blank")
+    String name,
+
+    @Schema(
+        description = "User's email address - must be unique across the system",
+        example = "john.doe@example.com",
+        format = "email",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    @Pattern(regexp = ".*\\S.*", message = "Email cannot be blank")
+    @Email(message = "Invalid email format")
+    String email,
+
+    @Schema(
+        description = "User's role in the system",
+        example = "ORGANIZER",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+        allowableValues = {"ADMIN", "ORGANIZER", "STAFF", "ATTENDEE"}
+    )
+    UserRole role,
+
+    @Schema(
+        description = "Current status of the user account",
+        example = "SUSPENDED",
+        requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+        allowableValues = {"ACTIVE", "INACTIVE", "SUSPENDED"}
+    )
+    UserStatus status,
+
+    @Schema(
+        description = "Version of the user the changes are based on, as returned by the last read",
+        example = "3",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotNull(message = "Version is required")
+    @PositiveOrZero(message = "Version cannot be negative")
+    Integer version
+) {
+}
@@ -0,0 +1,29 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Generic response wrapper for cursor-based pagination")
+public class CursorPagedResponse<T> {
+
+    @Schema(
+        description = "List of items in the current slice"
+    )
+    private List<T> content;
+
+    @Schema(
+        description = "Opaque cursor to pass back to get the next slice; absent on the last slice",
+        example = "MjAyNS0wMS0xNVQxMDozMDowMFosNTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw"
+    )
+    private String nextCursor;
+}
@@ -0,0 +1,57 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Generic response wrapper for pages returned without totals")
+public class SlicedResponse<T> {
+
+    @Schema(
+        description = "List of items in the current page"
+    )
+    private List<T> content;
+
+    @Schema(
+        description = "Pagination metadata, without totals"
+    )
+    private SliceMetadata metadata;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Pagination metadata without totals")
+    public static class SliceMetadata {
+
+        @Schema(
+            description = "Number of items per page",
+            example = "20",
+            minimum = "1"
+        )
+        private long size;
+
+        @Schema(
+            description = "Current page number (zero-based)",
+            example = "0",
+            minimum = "0"
+        )
+        private long number;
+
+        @Schema(
+            description = "Whether a next page exists",
+            example = "true"
+        )
+        private boolean hasNext;
+    }
+}
@@ -0,0 +1,62 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a batch user creation")
+public class UserBatchCreateResponse {
+
+    @Schema(
+        description = "Number of users created",
+        example = "998"
+    )
+    private int created;
+
+    @Schema(
+        description = "Number of users rejected",
+        example = "2"
+    )
+    private int rejected;
+
+    @Schema(
+        description = "One result per submitted user, in submission order"
+    )
+    private List<ItemResult> results;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Outcome for a single user of the batch")
+    public static class ItemResult {
+
+        @Schema(
+            description = "Position of the user in the request (zero-based)",
+            example = "0"
+        )
+        private int index;
+
+        @Schema(
+            description = "Identifier of the created user; absent when rejected",
+            example = "550e8400-e29b-41d4-a716-446655440000"
+        )
+        private String id;
+
+        @Schema(
+            description = "Reason the user was rejected; absent when created",
+            example = "User with email john.doe@example.com already exists"
+        )
+        private String error;
+    }
+}
@@ -0,0 +1,28 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Users retrieved by a batch lookup")
+public class UserBatchResponse {
+
+    @Schema(
+        description = "Users found, in the order of the requested IDs without duplicates"
+    )
+    private List<UserResponse> users;
+
+    @Schema(
+        description = "Requested IDs that do not match any user"
+    )
+    private List<String> notFound;
+}
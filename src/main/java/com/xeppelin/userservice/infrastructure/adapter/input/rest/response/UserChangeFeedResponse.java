@@ -0,0 +1,35 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Users changed since a cursor, oldest change first")
+public class UserChangeFeedResponse {
+
+    @Schema(
+        description = "Changes in the order they were made; a user changed several times appears once, in its latest state"
+    )
+    private List<UserChangeResponse> content;
+
+    @Schema(
+        description = "Opaque cursor to pass back as since on the next call; unchanged when there was nothing new",
+        example = "MjAyNS0wMS0xNVQxMDozMDowMFosNTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw"
+    )
+    private String nextCursor;
+
+    @Schema(
+        description = "Whether more changes are already available, in which case the next call can be made right away",
+        example = "false"
+    )
+    private boolean hasMore;
+}
@@ -0,0 +1,41 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Latest state of a user that changed")
+public class UserChangeResponse {
+
+    @Schema(
+        description = "Unique identifier of the changed user",
+        example = "550e8400-e29b-41d4-a716-446655440000"
+    )
+    private String id;
+
+    @Schema(
+        description = "Whether the user was deleted; the user itself is then absent",
+        example = "false"
+    )
+    private boolean deleted;
+
+    @Schema(
+        description = "When the user was last modified",
+        example = "2025-01-15T10:30:00Z"
+    )
+    private Instant modifiedDate;
+
+    @Schema(
+        description = "The user as it is now; absent when deleted"
+    )
+    private UserResponse user;
+}
@@ -0,0 +1,35 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk user import")
+public class UserImportResponse {
+
+    @Schema(
+        description = "Number of users imported",
+        example = "999998"
+    )
+    private long imported;
+
+    @Schema(
+        description = "Number of users rejected",
+        example = "2"
+    )
+    private long rejected;
+
+    @Schema(
+        description = "Why users were rejected, in import order; only the first rejections are listed"
+    )
+    private List<UserBatchCreateResponse.ItemResult> rejections;
+}
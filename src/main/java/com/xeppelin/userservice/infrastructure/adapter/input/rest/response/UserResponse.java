@@ -55,4 +55,11 @@ public class UserResponse {
         description = "User's address information"
     )
     private AddressResponse address;
+
+    @Schema(
+        description = "Version of the user, to pass back when patching it",
+        example = "3",
+        accessMode = Schema.AccessMode.READ_ONLY
+    )
+    private Integer version;
 }
@@ -0,0 +1,69 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.scheduler;
+
+import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.infrastructure.config.properties.UserPurgeProperties;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes the users that were deleted, in small batches with a pause in between.
+ * <p>
+ * Deleting a user only marks it, which keeps the request cheap even for mass deletions; the rows
+ * and their addresses are removed here once past their retention, one short transaction per batch.
+ * Batches skip the rows locked by other transactions, so every node can run the job without the
+ * nodes waiting on each other or on regular traffic. The pauses hold a scheduler thread, which is
+ * why the scheduler pool has a thread per job.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPurgeJob {
+
+    private final UserManagementUseCase userManagementUseCase;
+
+    private final UserPurgeProperties settings;
+
+    @Scheduled(
+        initialDelayString = "${xeppelin.purge.interval:1m}",
+        fixedDelayString = "${xeppelin.purge.interval:1m}")
+    public void purge() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        var deletedBefore = Instant.now().minus(settings.getRetention());
+        var purged = 0L;
+        for (int batch = 0; batch < settings.getMaxBatchesPerRun(); batch++) {
+            int batchPurged;
+            try {
+                batchPurged = userManagementUseCase.purgeDeletedUsers(deletedBefore, settings.getBatchSize());
+            } catch (DataAccessException ex) {
+                log.warn("Failed to purge deleted users: {}", ex.getMessage());
+                break;
+            }
+            purged += batchPurged;
+            if (batchPurged < settings.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} deleted users", purged);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(settings.getPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker guarding calls to the remote cache.
+ * <p>
+ * After {@code failureThreshold} consecutive failures, where a call slower than
+ * {@code slowCallThreshold} also counts as a failure, the circuit opens and callers skip the cache
+ * entirely. Once {@code openDuration} has elapsed a single probe call is let through: its success
+ * closes the circuit and notifies the recovery listeners, its failure re-opens it.
+ * </p>
+ */
+@Slf4j
+public class CacheCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openDurationNanos;
+
+    private final long slowCallThresholdNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    private volatile long openedAt;
+
+    public CacheCircuitBreaker(int failureThreshold, Duration openDuration, Duration slowCallThreshold,
+                               LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public CacheCircuitBreaker(int failureThreshold, Duration openDuration, Duration slowCallThreshold) {
+        this(failureThreshold, openDuration, slowCallThreshold, System::nanoTime);
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("user.cache.circuit.state", state, current -> current.get().ordinal())
+            .description("Remote cache circuit state: 0 closed, 1 open, 2 half-open")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registers an action to run each time the circuit closes after having been open.
+     */
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isClosed() {
+        return state.get() == State.CLOSED;
+    }
+
+    /**
+     * @return {@code true} if the caller may use the remote cache; the caller must then report
+     * the outcome through {@link #onSuccess(long)} or {@link #onFailure()}
+     */
+    public boolean tryAcquire() {
+        var current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallThresholdNanos) {
+            onFailure();
+            return;
+        }
+
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            probeInFlight.set(false);
+            log.info("Remote cache recovered, closing circuit");
+            recoveryListeners.forEach(Runnable::run);
+        }
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            open();
+            probeInFlight.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == State.CLOSED) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            log.warn("Remote cache unavailable or too slow, opening circuit for {} ms", openDurationNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Invalidation broadcast exchanged between replicas over Redis pub/sub.
+ * A {@code null} key means the whole cache was cleared.
+ *
+ * @param origin    identifier of the node that performed the write
+ * @param cacheName name of the affected cache
+ * @param key       string form of the affected key, or {@code null} for a clear
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, @Nullable String key) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        var encoded = origin + SEPARATOR + cacheName;
+        return key != null ? encoded + SEPARATOR + key : encoded;
+    }
+
+    public static CacheInvalidationMessage decode(String payload) {
+        var parts = payload.split(String.valueOf(SEPARATOR), 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + payload);
+        }
+        return new CacheInvalidationMessage(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
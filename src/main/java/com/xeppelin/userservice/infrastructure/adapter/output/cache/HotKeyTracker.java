@@ -0,0 +1,81 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.HotKeyRepository;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a {@link SpaceSavingSketch} of the user ids requested on this node and periodically
+ * persists the hottest ones, so that a freshly started node can warm its cache from them
+ * (see {@link UserCacheWarmer}).
+ * <p>
+ * Counts are halved after every successful persist, so the persisted set follows shifts in
+ * popularity instead of being dominated by long-lived history. The set is also persisted on
+ * shutdown, which is when a rolling deployment needs it most.
+ * </p>
+ */
+@Slf4j
+@Component
+public class HotKeyTracker implements DisposableBean {
+
+    private final HotKeyRepository hotKeyRepository;
+
+    private final UserCacheProperties.HotKeys settings;
+
+    private final SpaceSavingSketch<UUID> sketch;
+
+    public HotKeyTracker(HotKeyRepository hotKeyRepository, UserCacheProperties userCacheProperties) {
+        this.hotKeyRepository = hotKeyRepository;
+        this.settings = userCacheProperties.getHotKeys();
+        this.sketch = new SpaceSavingSketch<>(settings.getSketchCapacity());
+    }
+
+    public void record(UUID userId) {
+        if (settings.isEnabled()) {
+            sketch.offer(userId);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${xeppelin.cache.hot-keys.persist-interval:5m}",
+        fixedDelayString = "${xeppelin.cache.hot-keys.persist-interval:5m}")
+    public void persist() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        var hottest = sketch.top(settings.getSize());
+        if (hottest.isEmpty()) {
+            return;
+        }
+
+        try {
+            hotKeyRepository.saveAll(hottest);
+            hotKeyRepository.deleteRecordedBefore(settings.getRetention());
+            log.debug("Persisted {} hot user ids", hottest.size());
+        } catch (DataAccessException ex) {
+            // Counts are kept as they are, so that the next attempt persists what this one could not
+            log.warn("Failed to persist hot user ids: {}", ex.getMessage());
+            return;
+        }
+        sketch.decay();
+    }
+
+    /**
+     * @return the persisted hot user ids, most requested first
+     */
+    public List<UUID> loadHotKeys() {
+        return hotKeyRepository.findHottest(settings.getSize(), settings.getRetention());
+    }
+
+    @Override
+    public void destroy() {
+        persist();
+    }
+}
@@ -0,0 +1,38 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Time-to-live that shortens each entry by a random amount of up to {@code jitter} of the
+ * configured value, so entries written together do not all expire at the same instant.
+ * The configured time-to-live is therefore an upper bound.
+ * <p>
+ * The jitter must stay below 1: cutting the whole time-to-live would leave a zero duration, which
+ * Redis treats as no expiry at all.
+ * </p>
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final Duration timeToLive;
+
+    private final long maxReductionMillis;
+
+    public JitteredTtlFunction(Duration timeToLive, double jitter) {
+        if (!(jitter >= 0.0 && jitter < 1.0)) {
+            throw new IllegalArgumentException("TTL jitter must be at least 0 and below 1, was " + jitter);
+        }
+        this.timeToLive = timeToLive;
+        this.maxReductionMillis = (long) (timeToLive.toMillis() * jitter);
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, @Nullable Object value) {
+        if (maxReductionMillis == 0) {
+            return timeToLive;
+        }
+        return timeToLive.minusMillis(ThreadLocalRandom.current().nextLong(maxReductionMillis + 1));
+    }
+}
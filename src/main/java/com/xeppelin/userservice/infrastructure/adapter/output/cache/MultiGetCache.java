@@ -0,0 +1,27 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.util.List;
+import org.springframework.cache.Cache;
+
+/**
+ * Optional capability of a {@link Cache} to look up many keys in one round trip.
+ * Decorators implement it by forwarding to their delegate so the capability survives wrapping.
+ */
+public interface MultiGetCache {
+
+    /**
+     * @param keys the keys to look up
+     * @return one element per key, in the same order, {@code null} where the key is not cached
+     */
+    List<Cache.ValueWrapper> getAll(List<?> keys);
+
+    /**
+     * Looks up {@code keys} in one round trip when {@code cache} supports it, one by one otherwise.
+     */
+    static List<Cache.ValueWrapper> getAll(Cache cache, List<?> keys) {
+        if (cache instanceof MultiGetCache multiGetCache) {
+            return multiGetCache.getAll(keys);
+        }
+        return keys.stream().map(cache::get).toList();
+    }
+}
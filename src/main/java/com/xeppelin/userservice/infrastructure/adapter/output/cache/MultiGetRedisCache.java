@@ -0,0 +1,70 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RedisCache} that resolves multi-key lookups with a single {@code MGET}.
+ * <p>
+ * Keys and values go through the same prefixing and serialization as single-key operations.
+ * Multi-key lookups are not reflected in the cache statistics, which the cache writer only
+ * records for its own commands.
+ * </p>
+ */
+@Slf4j
+public class MultiGetRedisCache extends RedisCache implements MultiGetCache {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    public MultiGetRedisCache(String name,
+                              RedisCacheWriter cacheWriter,
+                              RedisCacheConfiguration cacheConfiguration,
+                              RedisConnectionFactory connectionFactory) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public List<ValueWrapper> getAll(List<?> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        var redisKeys = keys.stream()
+            .map(key -> serializeCacheKey(createCacheKey(key)))
+            .toArray(byte[][]::new);
+
+        List<byte[]> values;
+        try (var connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(redisKeys);
+        }
+
+        var result = new ArrayList<ValueWrapper>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            var bytes = values != null ? values.get(i) : null;
+            result.add(bytes != null ? read(keys.get(i), bytes) : null);
+        }
+        return result;
+    }
+
+    /**
+     * An unreadable entry only turns its own key into a miss rather than failing the whole batch.
+     */
+    @Nullable
+    private ValueWrapper read(Object key, byte[] bytes) {
+        try {
+            var value = deserializeCacheValue(bytes);
+            return value != null ? toValueWrapper(value) : null;
+        } catch (SerializationException ex) {
+            log.warn("Unreadable entry {} in cache {}: {}", key, getName(), ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.util.Map;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RedisCacheManager} creating {@link MultiGetRedisCache} instances.
+ */
+public class MultiGetRedisCacheManager extends RedisCacheManager {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    private final RedisCacheConfiguration defaultCacheConfiguration;
+
+    public MultiGetRedisCacheManager(RedisCacheWriter cacheWriter,
+                                     RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration defaultCacheConfiguration,
+                                     boolean allowRuntimeCacheCreation,
+                                     Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+        super(cacheWriter, defaultCacheConfiguration, allowRuntimeCacheCreation, initialCacheConfigurations);
+        this.connectionFactory = connectionFactory;
+        this.defaultCacheConfiguration = defaultCacheConfiguration;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, @Nullable RedisCacheConfiguration cacheConfiguration) {
+        return new MultiGetRedisCache(name, getCacheWriter(),
+            cacheConfiguration != null ? cacheConfiguration : defaultCacheConfiguration, connectionFactory);
+    }
+}
@@ -0,0 +1,123 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads hot cache entries in the background shortly before they expire.
+ * <p>
+ * On a cache hit the remaining time-to-live of the Redis entry is checked asynchronously, at most
+ * once per key per {@code check-interval} on this node. When less than {@code threshold} of the
+ * configured lifetime is left, the supplied refresh action rewrites the entry so that frequently
+ * read users never fall through to the database. Work that does not fit the bounded queue is
+ * dropped: refresh-ahead is an optimisation and never delays the request that triggered it.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RefreshAheadScheduler implements DisposableBean {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final CacheCircuitBreaker circuitBreaker;
+
+    private final RedisCacheConfiguration cacheConfiguration;
+
+    private final UserCacheProperties userCacheProperties;
+
+    private final CacheProperties cacheProperties;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Boolean> recentlyChecked;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter refreshes;
+
+    public RefreshAheadScheduler(StringRedisTemplate redisTemplate,
+                                 CacheCircuitBreaker circuitBreaker,
+                                 RedisCacheConfiguration cacheConfiguration,
+                                 UserCacheProperties userCacheProperties,
+                                 CacheProperties cacheProperties,
+                                 MeterRegistry meterRegistry) {
+        var settings = userCacheProperties.getRefreshAhead();
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.cacheConfiguration = cacheConfiguration;
+        this.userCacheProperties = userCacheProperties;
+        this.cacheProperties = cacheProperties;
+        this.recentlyChecked = Caffeine.newBuilder()
+            .maximumSize(settings.getMaximumTrackedKeys())
+            .expireAfterWrite(settings.getCheckInterval())
+            .build();
+        this.executor = new ThreadPoolExecutor(settings.getPoolSize(), settings.getPoolSize(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+            new CustomizableThreadFactory("cache-refresh-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+        this.refreshes = Counter.builder("user.cache.refresh-ahead")
+            .description("Cache entries reloaded before their expiry")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Records a hit on {@code key} and schedules {@code refresh} if the entry is about to expire.
+     */
+    public void onHit(String cacheName, Object key, Runnable refresh) {
+        var settings = userCacheProperties.getRefreshAhead();
+        if (!settings.isEnabled() || !circuitBreaker.isClosed()) {
+            return;
+        }
+
+        var timeToLive = userCacheProperties.timeToLiveFor(cacheName, cacheProperties.getRedis().getTimeToLive());
+        if (timeToLive == null || timeToLive.isZero()) {
+            return;
+        }
+
+        var redisKey = redisKey(cacheName, key);
+        if (recentlyChecked.asMap().putIfAbsent(redisKey, Boolean.TRUE) != null) {
+            return;
+        }
+
+        var threshold = Duration.ofMillis((long) (timeToLive.toMillis() * settings.getThreshold()));
+        executor.execute(() -> refreshIfExpiring(redisKey, threshold, refresh));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void refreshIfExpiring(String redisKey, Duration threshold, Runnable refresh) {
+        try {
+            var remainingMillis = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+            if (remainingMillis == null || remainingMillis < 0 || remainingMillis >= threshold.toMillis()) {
+                return;
+            }
+
+            log.debug("Refreshing {} ahead of expiry, {} ms left", redisKey, remainingMillis);
+            refresh.run();
+            refreshes.increment();
+        } catch (RuntimeException ex) {
+            log.warn("Refresh-ahead of {} failed: {}", redisKey, ex.getMessage());
+        }
+    }
+
+    private String redisKey(String cacheName, Object key) {
+        return cacheConfiguration.usePrefix()
+            ? cacheConfiguration.getKeyPrefixFor(cacheName) + key
+            : key.toString();
+    }
+}
@@ -0,0 +1,233 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Cache} decorator that fails open when the remote cache is unavailable or too slow.
+ * <p>
+ * Every call goes through the shared {@link CacheCircuitBreaker}. A failed or rejected read is
+ * reported as a miss, so callers fall back to the database. A failed or rejected write is dropped,
+ * but its key is remembered and evicted once the circuit closes again, which prevents a value
+ * written before the outage from outliving an update made during it. When more keys are pending
+ * than {@code maxPendingEvictions}, the whole cache is cleared on recovery instead.
+ * </p>
+ */
+@Slf4j
+public class ResilientCache implements Cache, MultiGetCache {
+
+    private final Cache delegate;
+
+    private final CacheCircuitBreaker circuitBreaker;
+
+    private final int maxPendingEvictions;
+
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean clearPending = new AtomicBoolean();
+
+    private final Counter failOpen;
+
+    public ResilientCache(Cache delegate,
+                          CacheCircuitBreaker circuitBreaker,
+                          int maxPendingEvictions,
+                          MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+        this.failOpen = Counter.builder("user.cache.fail-open")
+            .description("Remote cache calls skipped or failed while the service kept serving")
+            .tag("cache", delegate.getName())
+            .register(meterRegistry);
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        return call(() -> delegate.get(key), null);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        return call(() -> delegate.get(key, type), null);
+    }
+
+    @Override
+    public List<ValueWrapper> getAll(List<?> keys) {
+        return call(() -> MultiGetCache.getAll(delegate, keys), Collections.<ValueWrapper>nCopies(keys.size(), null));
+    }
+
+    /**
+     * Loads through the cache without holding the remote entry while the loader runs, so that a
+     * failing cache never turns into a failing load.
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (!run(() -> delegate.put(key, value))) {
+            rememberEviction(key);
+        }
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        var written = new AtomicBoolean();
+        var existing = call(() -> {
+            var previous = delegate.putIfAbsent(key, value);
+            written.set(true);
+            return previous;
+        }, null);
+        if (!written.get()) {
+            rememberEviction(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!run(() -> delegate.evict(key))) {
+            rememberEviction(key);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        var evicted = call(() -> delegate.evictIfPresent(key), null);
+        if (evicted == null) {
+            rememberEviction(key);
+            return false;
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        if (!run(delegate::clear)) {
+            clearPending.set(true);
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        var invalidated = call(delegate::invalidate, null);
+        if (invalidated == null) {
+            clearPending.set(true);
+            return false;
+        }
+        return invalidated;
+    }
+
+    /**
+     * Applies the writes dropped while the circuit was open; stops at the first failure and keeps
+     * the remaining keys for the next recovery.
+     */
+    void replayPendingWrites() {
+        if (clearPending.get()) {
+            if (run(delegate::clear)) {
+                clearPending.set(false);
+                pendingEvictions.clear();
+            }
+            return;
+        }
+
+        for (var key : pendingEvictions) {
+            if (!run(() -> delegate.evict(key))) {
+                return;
+            }
+            pendingEvictions.remove(key);
+        }
+    }
+
+    int pendingEvictionCount() {
+        return pendingEvictions.size();
+    }
+
+    private void rememberEviction(Object key) {
+        if (clearPending.get()) {
+            return;
+        }
+        if (pendingEvictions.size() >= maxPendingEvictions) {
+            log.warn("Too many dropped writes on cache {}, it will be cleared on recovery", getName());
+            clearPending.set(true);
+            pendingEvictions.clear();
+            return;
+        }
+        pendingEvictions.add(key);
+    }
+
+    private boolean run(Runnable operation) {
+        return call(() -> {
+            operation.run();
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+    }
+
+    private <T> T call(Supplier<T> operation, T fallback) {
+        if (!circuitBreaker.tryAcquire()) {
+            failOpen.increment();
+            return fallback;
+        }
+
+        var start = System.nanoTime();
+        try {
+            var result = operation.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (SerializationException ex) {
+            // Redis answered, the payload is unreadable: treat as a miss without blaming the server.
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            log.warn("Unreadable entry in cache {}: {}", getName(), ex.getMessage());
+            return fallback;
+        } catch (RuntimeException ex) {
+            circuitBreaker.onFailure();
+            failOpen.increment();
+            log.warn("Cache {} unavailable, continuing without it: {}", getName(), ex.getMessage());
+            return fallback;
+        }
+    }
+}
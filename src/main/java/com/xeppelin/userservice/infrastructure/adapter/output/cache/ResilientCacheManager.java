@@ -0,0 +1,70 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link CacheManager} that wraps every cache of the delegate manager in a {@link ResilientCache}
+ * sharing a single circuit breaker, since all caches live on the same Redis deployment.
+ */
+public class ResilientCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+
+    private final CacheCircuitBreaker circuitBreaker;
+
+    private final int maxPendingEvictions;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager delegate,
+                                 CacheCircuitBreaker circuitBreaker,
+                                 int maxPendingEvictions,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+        this.meterRegistry = meterRegistry;
+        circuitBreaker.onRecovery(this::replayPendingWrites);
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        var existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        var target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+            cacheName -> new ResilientCache(target, circuitBreaker, maxPendingEvictions, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Runs off the request thread that happened to close the circuit.
+     */
+    private void replayPendingWrites() {
+        CompletableFuture.runAsync(() -> caches.values().forEach(ResilientCache::replayPendingWrites));
+    }
+}
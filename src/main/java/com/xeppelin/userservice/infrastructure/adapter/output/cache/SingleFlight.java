@@ -0,0 +1,90 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses concurrent loads of the same key on this node into a single execution.
+ * <p>
+ * The first caller for a key runs the loader; callers arriving while it is in flight wait for
+ * its outcome, value or exception, instead of hitting the source of truth themselves. A waiter
+ * that is not served within {@code maxWait} runs the loader on its own so a stuck load cannot
+ * pile up requests indefinitely. Executed and coalesced loads are counted in
+ * {@code user.cache.loads}.
+ * </p>
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration maxWait;
+
+    private final Counter executedLoads;
+
+    private final Counter coalescedLoads;
+
+    public SingleFlight(String name, Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxWait = maxWait;
+        this.executedLoads = Counter.builder("user.cache.loads")
+            .description("Cache miss loads, split by whether they hit the source or joined an in-flight load")
+            .tag("cache", name)
+            .tag("outcome", "executed")
+            .register(meterRegistry);
+        this.coalescedLoads = Counter.builder("user.cache.loads")
+            .description("Cache miss loads, split by whether they hit the source or joined an in-flight load")
+            .tag("cache", name)
+            .tag("outcome", "coalesced")
+            .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        var promise = new CompletableFuture<V>();
+        var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(key, existing, loader);
+        }
+
+        executedLoads.increment();
+        try {
+            var value = loader.get();
+            promise.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            promise.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, promise);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> pending, Supplier<V> loader) {
+        try {
+            return pending.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            log.warn("In-flight load for key {} exceeded {}, loading directly", key, maxWait);
+            return loader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight load of " + key, ex);
+        }
+    }
+}
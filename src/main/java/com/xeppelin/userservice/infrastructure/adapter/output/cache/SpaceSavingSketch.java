@@ -0,0 +1,109 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy-hitters sketch (Metwally et al.) tracking at most {@code capacity} keys.
+ * <p>
+ * A key that is not tracked replaces the key with the lowest count and inherits that count plus
+ * one, so every key whose true frequency exceeds {@code total / capacity} is guaranteed to be
+ * present, and counts are over-estimated by at most the inherited amount. Memory and the cost of
+ * an update are bounded by the capacity regardless of how many distinct keys are offered.
+ * </p>
+ */
+public class SpaceSavingSketch<K> {
+
+    private static final Comparator<Counter<?>> BY_COUNT = Comparator
+        .<Counter<?>>comparingLong(counter -> counter.count)
+        .thenComparingLong(counter -> counter.sequence);
+
+    private final int capacity;
+
+    private final Map<K, Counter<K>> counters = new HashMap<>();
+
+    private final TreeSet<Counter<K>> byCount = new TreeSet<>(BY_COUNT);
+
+    private long nextSequence;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public synchronized void offer(K key) {
+        var counter = counters.get(key);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count++;
+            byCount.add(counter);
+            return;
+        }
+
+        long inherited = 0;
+        if (counters.size() >= capacity) {
+            var smallest = byCount.pollFirst();
+            counters.remove(smallest.key);
+            inherited = smallest.count;
+        }
+        counter = new Counter<>(key, inherited + 1, nextSequence++);
+        counters.put(key, counter);
+        byCount.add(counter);
+    }
+
+    /**
+     * @return up to {@code limit} keys with their estimated counts, most frequent first
+     */
+    public synchronized Map<K, Long> top(int limit) {
+        var result = new LinkedHashMap<K, Long>();
+        var iterator = byCount.descendingIterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            var counter = iterator.next();
+            result.put(counter.key, counter.count);
+        }
+        return result;
+    }
+
+    /**
+     * Halves every count, dropping keys that reach zero, so that keys which stopped being popular
+     * are eventually displaced by new ones.
+     */
+    public synchronized void decay() {
+        var survivors = new ArrayList<Counter<K>>(byCount.size());
+        for (var counter : byCount) {
+            counter.count /= 2;
+            if (counter.count > 0) {
+                survivors.add(counter);
+            } else {
+                counters.remove(counter.key);
+            }
+        }
+        byCount.clear();
+        byCount.addAll(survivors);
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private static final class Counter<K> {
+
+        private final K key;
+
+        private final long sequence;
+
+        private long count;
+
+        private Counter(K key, long count, long sequence) {
+            this.key = key;
+            this.count = count;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Cache} decorator that keeps a bounded in-process L1 copy in front of a remote L2 cache.
+ * <p>
+ * Reads are served from L1 when possible and populate it from L2 otherwise. Every write goes to
+ * L2 first, refreshes the local copy and is announced through the invalidation publisher so that
+ * other replicas drop their L1 entry. Cached values are shared between callers and must therefore
+ * be treated as immutable.
+ * </p>
+ */
+public class TwoTierCache implements Cache, MultiGetCache {
+
+    private final Cache delegate;
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoTierCache(Cache delegate,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        BiConsumer<String, String> invalidationPublisher) {
+        this.delegate = delegate;
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        var localValue = localCache.getIfPresent(localKey(key));
+        if (localValue != null) {
+            return new SimpleValueWrapper(localValue);
+        }
+
+        var remoteValue = delegate.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            localCache.put(localKey(key), remoteValue.get());
+        }
+        return remoteValue;
+    }
+
+    /**
+     * Serves what it can from L1 and fetches the remaining keys from L2 in one call.
+     */
+    @Override
+    public List<ValueWrapper> getAll(List<?> keys) {
+        var result = new ArrayList<ValueWrapper>(keys.size());
+        var remoteKeys = new ArrayList<Object>();
+        var remoteIndexes = new ArrayList<Integer>();
+        for (int i = 0; i < keys.size(); i++) {
+            var localValue = localCache.getIfPresent(localKey(keys.get(i)));
+            result.add(localValue != null ? new SimpleValueWrapper(localValue) : null);
+            if (localValue == null) {
+                remoteKeys.add(keys.get(i));
+                remoteIndexes.add(i);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        var remoteValues = MultiGetCache.getAll(delegate, remoteKeys);
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            var remoteValue = remoteValues.get(i);
+            if (remoteValue != null && remoteValue.get() != null) {
+                localCache.put(localKey(remoteKeys.get(i)), remoteValue.get());
+            }
+            result.set(remoteIndexes.get(i), remoteValue);
+        }
+        return result;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        var wrapper = get(key);
+        var value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        var value = delegate.get(key, valueLoader);
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        delegate.put(key, value);
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        } else {
+            localCache.invalidate(localKey(key));
+        }
+        invalidationPublisher.accept(getName(), localKey(key));
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        var existing = delegate.putIfAbsent(key, value);
+        localCache.invalidate(localKey(key));
+        if (existing == null) {
+            // Written to L2: other nodes may still hold a copy from before the entry was removed
+            invalidationPublisher.accept(getName(), localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        localCache.invalidate(localKey(key));
+        invalidationPublisher.accept(getName(), localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        var evicted = delegate.evictIfPresent(key);
+        localCache.invalidate(localKey(key));
+        invalidationPublisher.accept(getName(), localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        var invalidated = delegate.invalidate();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(getName(), null);
+        return invalidated;
+    }
+
+    /**
+     * Drops the local copy of a key after another replica announced a write.
+     */
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * Drops every local copy after another replica cleared the cache.
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * L1 keys use the same string form as the Redis keys so that broadcast invalidations,
+     * which only carry strings, match regardless of the original key type.
+     */
+    private static String localKey(Object key) {
+        return key.toString();
+    }
+}
@@ -0,0 +1,129 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link CacheManager} that wraps every cache of the delegate manager in a {@link TwoTierCache}.
+ * <p>
+ * The manager doubles as the Redis pub/sub listener for invalidations: writes performed on this
+ * node are published on the configured channel, and messages published by other nodes evict the
+ * matching L1 entries here. Pub/sub is fire-and-forget, so a missed message can leave a stale L1
+ * entry for at most the configured near-cache time-to-live, which is also the bound while Redis is
+ * unavailable and invalidations are not published at all.
+ * </p>
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager delegate;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final CacheCircuitBreaker circuitBreaker;
+
+    private final UserCacheProperties.NearCache settings;
+
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager delegate,
+                               StringRedisTemplate redisTemplate,
+                               CacheCircuitBreaker circuitBreaker,
+                               UserCacheProperties.NearCache settings,
+                               MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        var existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        var target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = CacheInvalidationMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring cache invalidation: {}", ex.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        var cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.key() == null) {
+            log.debug("Clearing near cache {} on remote request", invalidation.cacheName());
+            cache.clearLocal();
+        } else {
+            log.debug("Evicting near cache entry {}::{} on remote request", invalidation.cacheName(), invalidation.key());
+            cache.evictLocal(invalidation.key());
+        }
+    }
+
+    private TwoTierCache createCache(String name, Cache target) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+            .maximumSize(settings.getMaximumSize())
+            .expireAfterWrite(settings.getTimeToLive())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, "tier", "l1");
+        return new TwoTierCache(target, localCache, this::publishInvalidation);
+    }
+
+    private void publishInvalidation(String cacheName, @Nullable String key) {
+        if (!circuitBreaker.isClosed()) {
+            // Redis is known to be down; waiting for the command timeout would only add latency.
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(settings.getInvalidationChannel(),
+                new CacheInvalidationMessage(nodeId, cacheName, key).encode());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to publish cache invalidation for {}::{}: {}", cacheName, key, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.application.port.output.UserCache;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link UserCache} backed by the Spring {@link CacheManager}.
+ * <p>
+ * Full users are only stored in the {@code User} cache. The {@code UserByEmail} and
+ * {@code UserByPhone} caches hold the user id as a string and are resolved through the primary
+ * entry; a pointer whose target is missing or no longer carries the looked-up key is treated as
+ * a miss and dropped, so stale pointers can never serve outdated data.
+ * </p>
+ * <p>
+ * Misses are loaded through a {@link SingleFlight} per lookup path, so concurrent requests for
+ * the same key on this node share one trip to the database. Hits are reported to the
+ * {@link RefreshAheadScheduler}, which rewrites entries that are about to expire. Lookups by id
+ * feed the {@link HotKeyTracker} used to warm the cache on startup.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UserCacheAdapter implements UserCache {
+
+    static final String USER_CACHE = "User";
+
+    static final String EMAIL_INDEX_CACHE = "UserByEmail";
+
+    static final String PHONE_INDEX_CACHE = "UserByPhone";
+
+    private final CacheManager cacheManager;
+
+    private final RefreshAheadScheduler refreshAheadScheduler;
+
+    private final HotKeyTracker hotKeyTracker;
+
+    private final SingleFlight<UUID, User> idLoads;
+
+    private final SingleFlight<String, User> emailLoads;
+
+    private final SingleFlight<String, User> phoneLoads;
+
+    public UserCacheAdapter(CacheManager cacheManager,
+                            RefreshAheadScheduler refreshAheadScheduler,
+                            HotKeyTracker hotKeyTracker,
+                            MeterRegistry meterRegistry,
+                            UserCacheProperties userCacheProperties) {
+        var maxWait = userCacheProperties.getSingleFlight().getMaxWait();
+        this.cacheManager = cacheManager;
+        this.refreshAheadScheduler = refreshAheadScheduler;
+        this.hotKeyTracker = hotKeyTracker;
+        this.idLoads = new SingleFlight<>(USER_CACHE, maxWait, meterRegistry);
+        this.emailLoads = new SingleFlight<>(EMAIL_INDEX_CACHE, maxWait, meterRegistry);
+        this.phoneLoads = new SingleFlight<>(PHONE_INDEX_CACHE, maxWait, meterRegistry);
+    }
+
+    @Override
+    public User getById(UUID userId, Function<UUID, User> loader) {
+        hotKeyTracker.record(userId);
+        var cached = cache(USER_CACHE).get(userId, User.class);
+        if (cached != null) {
+            refreshAheadScheduler.onHit(USER_CACHE, userId, () -> load(userId, loader));
+            return cached;
+        }
+
+        return idLoads.execute(userId, () -> load(userId, loader));
+    }
+
+    @Override
+    public List<User> getAllById(List<UUID> userIds, Function<Collection<UUID>, List<User>> loader) {
+        var distinctIds = List.copyOf(new LinkedHashSet<>(userIds));
+        distinctIds.forEach(hotKeyTracker::record);
+
+        var found = new HashMap<UUID, User>(distinctIds.size());
+        var missingIds = new ArrayList<UUID>();
+        var cached = MultiGetCache.getAll(cache(USER_CACHE), distinctIds);
+        for (int i = 0; i < distinctIds.size(); i++) {
+            var wrapper = cached.get(i);
+            if (wrapper != null && wrapper.get() instanceof User user) {
+                found.put(user.getId(), user);
+            } else {
+                missingIds.add(distinctIds.get(i));
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            log.debug("Loading {} of {} users missing from the cache", missingIds.size(), distinctIds.size());
+            for (var user : loader.apply(missingIds)) {
+                putLoaded(user);
+                found.put(user.getId(), user);
+            }
+        }
+
+        return distinctIds.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public User getByEmail(String email, Function<String, User> loader) {
+        var cached = resolve(EMAIL_INDEX_CACHE, email, user -> email.equals(user.getEmail()));
+        if (cached != null) {
+            return cached;
+        }
+
+        return emailLoads.execute(email, () -> load(email, loader));
+    }
+
+    @Override
+    public User getByPhoneNumber(String phoneNumber, Function<String, User> loader) {
+        var cached = resolve(PHONE_INDEX_CACHE, phoneNumber, user -> phoneNumber.equals(phoneNumberOf(user)));
+        if (cached != null) {
+            return cached;
+        }
+
+        return phoneLoads.execute(phoneNumber, () -> load(phoneNumber, loader));
+    }
+
+    @Override
+    public void put(User user) {
+        var previous = cache(USER_CACHE).get(user.getId(), User.class);
+        cache(USER_CACHE).put(user.getId(), user);
+
+        if (previous != null) {
+            if (!Objects.equals(previous.getEmail(), user.getEmail())) {
+                evictKey(EMAIL_INDEX_CACHE, previous.getEmail());
+            }
+            if (!Objects.equals(phoneNumberOf(previous), phoneNumberOf(user))) {
+                evictKey(PHONE_INDEX_CACHE, phoneNumberOf(previous));
+            }
+        }
+
+        var pointer = user.getId().toString();
+        putKey(EMAIL_INDEX_CACHE, user.getEmail(), pointer);
+        putKey(PHONE_INDEX_CACHE, phoneNumberOf(user), pointer);
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        var previous = cache(USER_CACHE).get(userId, User.class);
+        cache(USER_CACHE).evict(userId);
+
+        if (previous != null) {
+            evictKey(EMAIL_INDEX_CACHE, previous.getEmail());
+            evictKey(PHONE_INDEX_CACHE, phoneNumberOf(previous));
+        }
+    }
+
+    private <K> User load(K key, Function<K, User> loader) {
+        var user = loader.apply(key);
+        put(user);
+        return user;
+    }
+
+    /**
+     * Caches a user that was just seen missing, so there are no previous secondary keys to drop.
+     */
+    private void putLoaded(User user) {
+        cache(USER_CACHE).put(user.getId(), user);
+        var pointer = user.getId().toString();
+        putKey(EMAIL_INDEX_CACHE, user.getEmail(), pointer);
+        putKey(PHONE_INDEX_CACHE, phoneNumberOf(user), pointer);
+    }
+
+    @Nullable
+    private User resolve(String indexCache, String key, Predicate<User> stillMatches) {
+        var pointer = cache(indexCache).get(key, String.class);
+        if (pointer == null) {
+            return null;
+        }
+
+        var user = cache(USER_CACHE).get(UUID.fromString(pointer), User.class);
+        if (user != null && stillMatches.test(user)) {
+            refreshAheadScheduler.onHit(indexCache, key, () -> putKey(indexCache, key, pointer));
+            return user;
+        }
+
+        log.debug("Dropping stale {} pointer for key {}", indexCache, key);
+        cache(indexCache).evict(key);
+        return null;
+    }
+
+    private void putKey(String indexCache, @Nullable String key, String pointer) {
+        if (key != null) {
+            cache(indexCache).put(key, pointer);
+        }
+    }
+
+    private void evictKey(String indexCache, @Nullable String key) {
+        if (key != null) {
+            cache(indexCache).evict(key);
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), () -> "Cache not configured: " + name);
+    }
+
+    @Nullable
+    private static String phoneNumberOf(User user) {
+        return user.getAddress() != null ? user.getAddress().getNormalizedPhoneNumber() : null;
+    }
+}
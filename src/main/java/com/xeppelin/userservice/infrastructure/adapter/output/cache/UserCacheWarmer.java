@@ -0,0 +1,69 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.application.port.output.UserCache;
+import com.xeppelin.userservice.application.port.output.UserRepository;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-loads the persisted hot users into the cache on startup.
+ * <p>
+ * Application runners complete before Spring Boot switches the readiness state to
+ * {@code ACCEPTING_TRAFFIC}, so a node only receives traffic once its hottest entries are in
+ * place. Users are read in batches of {@code warm-up-batch-size} with one query each, and the
+ * warm-up gives up after {@code warm-up-timeout}; any failure is logged and startup continues
+ * with a cold cache.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheWarmer implements ApplicationRunner {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    private final UserRepository userRepository;
+
+    private final UserCache userCache;
+
+    private final UserCacheProperties userCacheProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var settings = userCacheProperties.getHotKeys();
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        var start = System.nanoTime();
+        var deadline = start + settings.getWarmUpTimeout().toNanos();
+        var warmed = 0;
+        try {
+            var userIds = hotKeyTracker.loadHotKeys();
+            for (int from = 0; from < userIds.size(); from += settings.getWarmUpBatchSize()) {
+                if (System.nanoTime() > deadline) {
+                    log.warn("Cache warm-up timed out after {} of {} users", warmed, userIds.size());
+                    break;
+                }
+                var batch = userIds.subList(from, Math.min(from + settings.getWarmUpBatchSize(), userIds.size()));
+                warmed += warm(batch);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Cache warm-up failed after {} users: {}", warmed, ex.getMessage());
+        }
+        log.info("Warmed cache with {} hot users in {} ms", warmed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int warm(List<UUID> userIds) {
+        var users = userRepository.findAllById(userIds);
+        users.forEach(userCache::put);
+        return users.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Static dictionary of low-cardinality address values encoded as a single index by
+ * {@link CompactUserRedisSerializer}.
+ * <p>
+ * Entries are append-only: removing or reordering an entry changes the meaning of values already
+ * stored in Redis and requires a new schema version in the serializer.
+ * </p>
+ */
+final class CodecDictionary {
+
+    static final CodecDictionary COUNTRIES = new CodecDictionary(List.of(
+        "USA", "United States", "US", "Canada", "Mexico", "United Kingdom", "Ireland", "Germany",
+        "France", "Spain", "Portugal", "Italy", "Netherlands", "Belgium", "Switzerland", "Sweden",
+        "Norway", "Denmark", "Finland", "Poland", "Brazil", "Argentina", "Chile", "Colombia", "Peru",
+        "India", "China", "Japan", "South Korea", "Singapore", "Australia", "New Zealand", "South Africa"
+    ));
+
+    static final CodecDictionary STATES = new CodecDictionary(List.of(
+        "AL", "AK", "AZ", "AR", "CA", "CO", "CT", "DE", "FL", "GA", "HI", "ID", "IL", "IN", "IA", "KS",
+        "KY", "LA", "ME", "MD", "MA", "MI", "MN", "MS", "MO", "MT", "NE", "NV", "NH", "NJ", "NM", "NY",
+        "NC", "ND", "OH", "OK", "OR", "PA", "RI", "SC", "SD", "TN", "TX", "UT", "VT", "VA", "WA", "WV",
+        "WI", "WY", "DC", "PR"
+    ));
+
+    private final List<String> entries;
+
+    private final Map<String, Integer> indexes;
+
+    private CodecDictionary(List<String> entries) {
+        this.entries = entries;
+        this.indexes = new HashMap<>(entries.size() * 2);
+        for (int i = 0; i < entries.size(); i++) {
+            indexes.put(entries.get(i), i);
+        }
+    }
+
+    /**
+     * @return the index of the value, or {@code -1} when it is not part of the dictionary
+     */
+    int indexOf(String value) {
+        return indexes.getOrDefault(value, -1);
+    }
+
+    String valueAt(int index) {
+        if (index < 0 || index >= entries.size()) {
+            throw new IllegalArgumentException("Unknown dictionary index: " + index);
+        }
+        return entries.get(index);
+    }
+}
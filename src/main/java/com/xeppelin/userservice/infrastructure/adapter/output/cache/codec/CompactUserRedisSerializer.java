@@ -0,0 +1,317 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache.codec;
+
+import com.xeppelin.userservice.domain.model.Address;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Compact, versioned binary encoding for cached users and user id pointers.
+ * <p>
+ * Layout: a magic byte, a schema version byte and a type tag, followed by the payload. UUIDs are
+ * written as 16 raw bytes, enums as their ordinal, strings as a varint length followed by UTF-8
+ * bytes, and country/state through {@link CodecDictionary}. Values of any other type, and payloads
+ * that do not start with the magic byte (for instance JSON entries written before the codec was
+ * switched), are handed to the fallback serializer so caches can change codec without a flush.
+ * </p>
+ * <p>
+ * Enum ordinals and dictionary indexes are part of the schema: reordering {@link UserRole},
+ * {@link UserStatus} or a dictionary requires bumping {@link #SCHEMA_VERSION}. Entries written
+ * with schema version 1, which predates the user version field, are still read.
+ * </p>
+ */
+public class CompactUserRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC7;
+
+    static final byte SCHEMA_VERSION = 2;
+
+    private static final byte SCHEMA_VERSION_WITHOUT_USER_VERSION = 1;
+
+    private static final byte TYPE_USER = 1;
+
+    private static final byte TYPE_ID_POINTER = 2;
+
+    private static final int NULL_ENUM = 0xFF;
+
+    private static final int DICTIONARY_NULL = 0;
+
+    private static final int DICTIONARY_LITERAL = 1;
+
+    private static final int DICTIONARY_OFFSET = 2;
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private static final UserStatus[] STATUSES = UserStatus.values();
+
+    private final RedisSerializer<Object> fallback;
+
+    public CompactUserRedisSerializer(RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value instanceof User user) {
+            var writer = header(TYPE_USER, 128);
+            writeUser(writer, user);
+            return writer.toByteArray();
+        }
+        if (value instanceof String pointer && isUuid(pointer)) {
+            var writer = header(TYPE_ID_POINTER, 20);
+            writer.writeUuid(UUID.fromString(pointer));
+            return writer.toByteArray();
+        }
+        return fallback.serialize(value);
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            var reader = new Reader(bytes, 1);
+            var version = reader.readByte();
+            if (version != SCHEMA_VERSION && version != SCHEMA_VERSION_WITHOUT_USER_VERSION) {
+                throw new SerializationException("Unsupported cached user schema version: " + version);
+            }
+            return switch (reader.readByte()) {
+                case TYPE_USER -> readUser(reader, version);
+                case TYPE_ID_POINTER -> reader.readUuid().toString();
+                default -> throw new SerializationException("Unknown cached value type tag");
+            };
+        } catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+            throw new SerializationException("Corrupt cached user payload", ex);
+        }
+    }
+
+    private static Writer header(byte type, int expectedSize) {
+        var writer = new Writer(expectedSize);
+        writer.writeByte(MAGIC);
+        writer.writeByte(SCHEMA_VERSION);
+        writer.writeByte(type);
+        return writer;
+    }
+
+    private static void writeUser(Writer writer, User user) {
+        writer.writeUuid(user.getId());
+        writer.writeString(user.getName());
+        writer.writeString(user.getEmail());
+        writer.writeByte(user.getRole() != null ? user.getRole().ordinal() : NULL_ENUM);
+        writer.writeByte(user.getStatus() != null ? user.getStatus().ordinal() : NULL_ENUM);
+        // Shifted by one so that zero encodes a missing version
+        writer.writeVarInt(user.getVersion() != null ? user.getVersion() + 1 : 0);
+
+        var address = user.getAddress();
+        writer.writeByte(address != null ? 1 : 0);
+        if (address != null) {
+            writer.writeUuid(address.getId());
+            writer.writeString(address.getLine1());
+            writer.writeString(address.getLine2());
+            writer.writeString(address.getCity());
+            writer.writeDictionaryString(CodecDictionary.STATES, address.getState());
+            writer.writeString(address.getPostalCode());
+            writer.writeDictionaryString(CodecDictionary.COUNTRIES, address.getCountry());
+            writer.writeString(address.getPhoneNumber());
+        }
+    }
+
+    private static User readUser(Reader reader, int schemaVersion) {
+        var builder = User.builder()
+            .id(reader.readUuid())
+            .name(reader.readString())
+            .email(reader.readString())
+            .role(readEnum(ROLES, reader.readByte()))
+            .status(readEnum(STATUSES, reader.readByte()));
+
+        if (schemaVersion != SCHEMA_VERSION_WITHOUT_USER_VERSION) {
+            var version = reader.readVarInt();
+            builder.version(version == 0 ? null : version - 1);
+        }
+
+        if (reader.readByte() == 1) {
+            builder.address(Address.builder()
+                .id(reader.readUuid())
+                .line1(reader.readString())
+                .line2(reader.readString())
+                .city(reader.readString())
+                .state(reader.readDictionaryString(CodecDictionary.STATES))
+                .postalCode(reader.readString())
+                .country(reader.readDictionaryString(CodecDictionary.COUNTRIES))
+                .phoneNumber(reader.readString())
+                .build());
+        }
+        return builder.build();
+    }
+
+    @Nullable
+    private static <E extends Enum<E>> E readEnum(E[] values, int ordinal) {
+        return ordinal == NULL_ENUM ? null : values[ordinal];
+    }
+
+    private static boolean isUuid(String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+
+        private int position;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeUuid(@Nullable UUID value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+            writeByte(1);
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+
+        void writeString(@Nullable String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeDictionaryString(CodecDictionary dictionary, @Nullable String value) {
+            if (value == null) {
+                writeVarInt(DICTIONARY_NULL);
+                return;
+            }
+            var index = dictionary.indexOf(value);
+            if (index >= 0) {
+                writeVarInt(index + DICTIONARY_OFFSET);
+            } else {
+                writeVarInt(DICTIONARY_LITERAL);
+                writeString(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+
+        private int position;
+
+        private Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        @Nullable
+        UUID readUuid() {
+            if (readByte() == 0) {
+                return null;
+            }
+            return new UUID(readLong(), readLong());
+        }
+
+        @Nullable
+        String readString() {
+            var length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        @Nullable
+        String readDictionaryString(CodecDictionary dictionary) {
+            var code = readVarInt();
+            return switch (code) {
+                case DICTIONARY_NULL -> null;
+                case DICTIONARY_LITERAL -> readString();
+                default -> dictionary.valueAt(code - DICTIONARY_OFFSET);
+            };
+        }
+
+        private long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            int current;
+            do {
+                current = readByte();
+                value |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.outbox;
+
+import com.xeppelin.userservice.domain.model.UserChangeEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Appends user changes to a Redis stream, one entry per change, trimmed to an approximate length.
+ * <p>
+ * A batch is sent as a single pipeline of {@code XADD}, so that it costs one round trip however many
+ * changes it holds. Approximate trimming lets Redis drop whole nodes of the stream instead of
+ * individual entries, which keeps the trim nearly free.
+ * </p>
+ */
+public class RedisStreamUserChangeEventSink implements UserChangeEventSink {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final byte[] streamKey;
+
+    private final XAddOptions addOptions;
+
+    public RedisStreamUserChangeEventSink(StringRedisTemplate redisTemplate, String streamKey, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void publish(List<UserChangeEvent> events) {
+        // Errors of pipelined commands are raised when the pipeline is closed, failing the batch
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (var event : events) {
+                connection.streamCommands().xAdd(toRecord(event), addOptions);
+            }
+            return null;
+        });
+    }
+
+    private ByteRecord toRecord(UserChangeEvent event) {
+        var fields = new LinkedHashMap<byte[], byte[]>();
+        fields.put(bytes("sequence"), bytes(Long.toString(event.sequence())));
+        fields.put(bytes("userId"), bytes(event.userId().toString()));
+        fields.put(bytes("type"), bytes(event.type().name()));
+        if (event.version() != null) {
+            fields.put(bytes("version"), bytes(event.version().toString()));
+        }
+        fields.put(bytes("occurredAt"), bytes(event.occurredAt().toString()));
+        return StreamRecords.rawBytes(fields).withStreamKey(streamKey);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
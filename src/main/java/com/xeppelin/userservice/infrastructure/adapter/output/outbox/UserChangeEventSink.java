@@ -0,0 +1,21 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.outbox;
+
+import com.xeppelin.userservice.domain.model.UserChangeEvent;
+import java.util.List;
+
+/**
+ * Destination of the user changes drained from the outbox.
+ * <p>
+ * A batch is removed from the outbox only once {@link #publish} returns; if it throws, the whole
+ * batch is published again later. Implementations therefore deliver at least once, and consumers
+ * discard duplicates and stale changes by comparing {@link UserChangeEvent#sequence()} or
+ * {@link UserChangeEvent#version()}.
+ * </p>
+ */
+public interface UserChangeEventSink {
+
+    /**
+     * Publishes the changes in the given order, returning only once all of them are acknowledged.
+     */
+    void publish(List<UserChangeEvent> events);
+}
@@ -0,0 +1,82 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.outbox;
+
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter.UserOutboxAdapter;
+import com.xeppelin.userservice.infrastructure.config.properties.UserOutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodically drains the user changes of the outbox to the {@link UserChangeEventSink}, in batches.
+ * <p>
+ * Each batch is claimed, published and removed in one transaction: if publishing fails, the batch is
+ * rolled back into the outbox and published again by a later run. Batches skip the rows claimed by
+ * other transactions, so every node can run the relay and the nodes share the backlog instead of
+ * waiting on each other. Batches of different nodes may then reach the sink out of order, which
+ * consumers already have to handle because delivery is at least once.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UserOutboxRelay {
+
+    private final UserOutboxAdapter userOutboxAdapter;
+
+    private final UserChangeEventSink sink;
+
+    private final UserOutboxProperties settings;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public UserOutboxRelay(UserOutboxAdapter userOutboxAdapter,
+                           UserChangeEventSink sink,
+                           UserOutboxProperties settings,
+                           PlatformTransactionManager transactionManager) {
+        this.userOutboxAdapter = userOutboxAdapter;
+        this.sink = sink;
+        this.settings = settings;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(
+        initialDelayString = "${xeppelin.outbox.interval:1s}",
+        fixedDelayString = "${xeppelin.outbox.interval:1s}")
+    public void relay() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        var relayed = 0L;
+        for (int batch = 0; batch < settings.getMaxBatchesPerRun(); batch++) {
+            int batchRelayed;
+            try {
+                batchRelayed = relayBatch();
+            } catch (RuntimeException ex) {
+                // Either the outbox or the sink is unavailable; the batch is still in the outbox
+                log.warn("Failed to relay user changes: {}", ex.getMessage());
+                break;
+            }
+            relayed += batchRelayed;
+            if (batchRelayed < settings.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (relayed > 0) {
+            log.debug("Relayed {} user changes", relayed);
+        }
+    }
+
+    private int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            var events = userOutboxAdapter.claim(settings.getBatchSize());
+            if (!events.isEmpty()) {
+                sink.publish(events);
+            }
+            return events.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+}
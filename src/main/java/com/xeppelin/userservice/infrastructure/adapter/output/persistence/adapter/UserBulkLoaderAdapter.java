@@ -0,0 +1,217 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter;
+
+import com.xeppelin.userservice.application.port.output.UserBulkLoader;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads users with the PostgreSQL {@code COPY} protocol rather than through JPA.
+ * <p>
+ * The users are streamed into a temporary staging table, which has no index or constraint and is
+ * dropped once merged. Rows that would break a constraint of {@code users} or {@code addresses} are
+ * flagged there with the reason, and the remaining ones are merged with two {@code INSERT ... SELECT}.
+ * A load therefore costs a handful of statements however many users it holds.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBulkLoaderAdapter implements UserBulkLoader {
+
+    private static final String CREATE_STAGING_TABLE = """
+        CREATE TEMPORARY TABLE user_import (
+            position INTEGER NOT NULL,
+            user_id UUID NOT NULL,
+            name CHARACTER VARYING NOT NULL,
+            email CHARACTER VARYING NOT NULL,
+            role CHARACTER VARYING NOT NULL,
+            status CHARACTER VARYING NOT NULL,
+            address_id UUID,
+            address_line1 CHARACTER VARYING,
+            address_line2 CHARACTER VARYING,
+            city CHARACTER VARYING,
+            state CHARACTER VARYING,
+            postal_code CHARACTER VARYING,
+            country CHARACTER VARYING,
+            phone_number CHARACTER VARYING,
+            error CHARACTER VARYING
+        ) ON COMMIT DROP
+        """;
+
+    private static final String COPY_STAGING_TABLE = """
+        COPY user_import (position, user_id, name, email, role, status, address_id, address_line1,
+                          address_line2, city, state, postal_code, country, phone_number)
+        FROM STDIN
+        """;
+
+    /**
+     * Mirrors the check constraints of {@code V1__Initial_schema.sql}, which are stricter than the
+     * domain rules, and the unique phone number index of {@code V12}, so that a single offending row
+     * does not abort the whole insert.
+     */
+    private static final String FLAG_INVALID_ROWS = """
+        UPDATE user_import SET error = CASE
+            WHEN email !~* '^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$'
+                THEN 'Invalid email format'
+            WHEN address_id IS NOT NULL AND postal_code !~ '^[A-Za-z0-9\\-\\s]{3,20}$'
+                THEN 'Invalid postal code format'
+            WHEN address_id IS NOT NULL AND phone_number IS NOT NULL AND phone_number !~ '^\\+?[0-9\\-\\s]{10,19}$'
+                THEN 'Invalid phone number format'
+            WHEN EXISTS (SELECT 1 FROM users u WHERE lower(u.email) = lower(user_import.email) AND u.deleted_at IS NULL)
+                THEN 'User with email ' || email || ' already exists'
+            WHEN address_id IS NOT NULL AND EXISTS (
+                    SELECT 1 FROM addresses a
+                    WHERE a.phone_number_normalized = '+' || regexp_replace(user_import.phone_number, '[^0-9]', '', 'g')
+                        AND a.deleted_at IS NULL)
+                THEN 'User with phone number ' || phone_number || ' already exists'
+        END
+        """;
+
+    /**
+     * Users whose email was taken by a concurrent writer after the rows were flagged are skipped by
+     * {@code ON CONFLICT} and flagged in turn, so that their address is not inserted either.
+     * <p>
+     * The users are stamped with the time of this statement rather than the column defaults, which
+     * hold the start of the transaction: the copy before it can take longer than the change feed
+     * holds recent changes back, and the feed would then have moved past the users before they commit.
+     * Only the short statements after this one remain between the stamp and the commit.
+     * </p>
+     */
+    private static final String INSERT_USERS = """
+        WITH stamp AS (
+            SELECT clock_timestamp() AS now
+        ), inserted AS (
+            INSERT INTO users (id, name, email, role, status, created_date, last_modified_date)
+            SELECT user_id, name, email, role, status, stamp.now, stamp.now
+            FROM user_import CROSS JOIN stamp
+            WHERE error IS NULL
+            ON CONFLICT (lower(email)) WHERE deleted_at IS NULL DO NOTHING
+            RETURNING id
+        )
+        UPDATE user_import SET error = 'User with email ' || email || ' already exists'
+        WHERE error IS NULL AND NOT EXISTS (SELECT 1 FROM inserted WHERE inserted.id = user_import.user_id)
+        """;
+
+    /**
+     * Addresses whose phone number was taken by a concurrent writer after the rows were flagged are
+     * skipped by {@code ON CONFLICT} in the same way; their users, inserted by the previous statement,
+     * are flagged and deleted again so that no user is left without the address it was imported with.
+     */
+    private static final String INSERT_ADDRESSES = """
+        WITH inserted AS (
+            INSERT INTO addresses (id, user_id, address_line1, address_line2, city, state, postal_code, country, phone_number)
+            SELECT address_id, user_id, address_line1, address_line2, city, state, postal_code, country, phone_number
+            FROM user_import
+            WHERE error IS NULL AND address_id IS NOT NULL
+            ON CONFLICT (phone_number_normalized) WHERE phone_number_normalized IS NOT NULL AND deleted_at IS NULL DO NOTHING
+            RETURNING user_id
+        ), rejected AS (
+            UPDATE user_import SET error = 'User with phone number ' || phone_number || ' already exists'
+            WHERE error IS NULL AND address_id IS NOT NULL
+                AND NOT EXISTS (SELECT 1 FROM inserted WHERE inserted.user_id = user_import.user_id)
+            RETURNING user_id
+        )
+        DELETE FROM users WHERE id IN (SELECT user_id FROM rejected)
+        """;
+
+    /**
+     * Records the creations in the outbox within the load's transaction, as {@code UserOutboxAdapter}
+     * would for users created one at a time.
+     */
+    private static final String INSERT_CHANGES = """
+        INSERT INTO user_outbox (user_id, change_type, version)
+        SELECT user_id, 'CREATED', 0 FROM user_import WHERE error IS NULL ORDER BY position
+        """;
+
+    private static final String FIND_REJECTIONS = """
+        SELECT position, error FROM user_import WHERE error IS NOT NULL ORDER BY position
+        """;
+
+    private static final String DROP_STAGING_TABLE = "DROP TABLE user_import";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<UserCreationResult> load(List<User> users) {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            var pgConnection = connection.unwrap(PGConnection.class);
+            try (var writer = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, COPY_STAGING_TABLE, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                for (int position = 0; position < users.size(); position++) {
+                    writeRow(writer, position, users.get(position));
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return null;
+        });
+        jdbcTemplate.update(FLAG_INVALID_ROWS);
+        jdbcTemplate.update(INSERT_USERS);
+        jdbcTemplate.update(INSERT_ADDRESSES);
+        jdbcTemplate.update(INSERT_CHANGES);
+        var rejections = jdbcTemplate.query(FIND_REJECTIONS,
+            (resultSet, rowNum) -> UserCreationResult.rejected(resultSet.getInt("position"), resultSet.getString("error")));
+        // Dropped now rather than at commit in case the caller loads several chunks in one transaction
+        jdbcTemplate.execute(DROP_STAGING_TABLE);
+        return rejections;
+    }
+
+    private static void writeRow(Writer writer, int position, User user) throws IOException {
+        var address = user.getAddress();
+        writer.write(Integer.toString(position));
+        writeField(writer, user.getId());
+        writeField(writer, user.getName());
+        writeField(writer, user.getEmail());
+        writeField(writer, user.getRole());
+        writeField(writer, user.getStatus());
+        writeField(writer, address != null ? address.getId() : null);
+        writeField(writer, address != null ? address.getLine1() : null);
+        writeField(writer, address != null ? address.getLine2() : null);
+        writeField(writer, address != null ? address.getCity() : null);
+        writeField(writer, address != null ? address.getState() : null);
+        writeField(writer, address != null ? address.getPostalCode() : null);
+        writeField(writer, address != null ? address.getCountry() : null);
+        writeField(writer, address != null ? address.getPhoneNumber() : null);
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a column of the {@code COPY} text format: tab-separated, {@code \N} for null, and
+     * backslash escapes for the characters that would otherwise end the column or the row.
+     */
+    private static void writeField(Writer writer, Object value) throws IOException {
+        writer.write('\t');
+        if (value == null) {
+            writer.write("\\N");
+            return;
+        }
+        var text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            switch (c) {
+                case '\\' -> writer.write("\\\\");
+                case '\t' -> writer.write("\\t");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                default -> writer.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter;
+
+import com.xeppelin.userservice.application.port.output.UserOutbox;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChangeEvent;
+import com.xeppelin.userservice.domain.model.UserChangeType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores changes to users in the {@code user_outbox} table, through the connection of the caller's
+ * transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserOutboxAdapter implements UserOutbox {
+
+    private static final String INSERT = """
+        INSERT INTO user_outbox (user_id, change_type, version) VALUES (?, ?, ?)
+        """;
+
+    /**
+     * Takes the oldest rows that no other relay holds, so that relays on several nodes drain
+     * disjoint ranges instead of waiting on each other, and removes them in the same statement.
+     */
+    private static final String CLAIM = """
+        DELETE FROM user_outbox
+        WHERE id IN (SELECT id FROM user_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)
+        RETURNING id, user_id, change_type, version, occurred_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(UserChangeType type, UUID userId, Integer version) {
+        jdbcTemplate.update(INSERT, userId, type.name(), version);
+    }
+
+    @Override
+    public void appendAll(UserChangeType type, List<User> users) {
+        var arguments = new ArrayList<Object[]>(users.size());
+        users.forEach(user -> arguments.add(new Object[] {user.getId(), type.name(), user.getVersion()}));
+        jdbcTemplate.batchUpdate(INSERT, arguments);
+    }
+
+    /**
+     * Removes up to {@code limit} of the oldest changes and returns them in outbox order. The rows
+     * stay locked until the caller's transaction ends, and come back if it rolls back.
+     */
+    public List<UserChangeEvent> claim(int limit) {
+        var events = new ArrayList<>(jdbcTemplate.query(CLAIM, UserOutboxAdapter::toEvent, limit));
+        // RETURNING gives no guarantee on order
+        events.sort(Comparator.comparingLong(UserChangeEvent::sequence));
+        return events;
+    }
+
+    private static UserChangeEvent toEvent(ResultSet resultSet, int rowNum) throws SQLException {
+        return new UserChangeEvent(
+            resultSet.getLong("id"),
+            resultSet.getObject("user_id", UUID.class),
+            UserChangeType.valueOf(resultSet.getString("change_type")),
+            resultSet.getObject("version", Integer.class),
+            resultSet.getTimestamp("occurred_at").toInstant());
+    }
+}
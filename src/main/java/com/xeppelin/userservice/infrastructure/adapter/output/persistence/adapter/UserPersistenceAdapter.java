@@ -1,74 +1,469 @@
 package com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter;
 
 import com.xeppelin.userservice.application.port.output.UserRepository;
+import com.xeppelin.userservice.domain.exception.UserDomainException;
+import com.xeppelin.userservice.domain.exception.VersionConflictException;
+import com.xeppelin.userservice.domain.model.Address;
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChange;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserPatch;
 import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
 import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.entity.UserEntity;
 import com.xeppelin.userservice.infrastructure.adapter.output.persistence.mapper.PersistenceMapper;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserChangeRepository;
 import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserJpaRepository;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserSearchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class UserPersistenceAdapter implements UserRepository {
 
+    /**
+     * Entities persisted between two flushes; matches {@code hibernate.jdbc.batch_size} so that
+     * each flush sends one full JDBC batch per table.
+     */
+    private static final int FLUSH_INTERVAL = 50;
+
+    /**
+     * Order of the role/status listings when the caller asks for none; it follows
+     * {@code idx_users_role_id} and {@code idx_users_role_status_id} so that a page is read straight
+     * off the index, whether or not a status is given.
+     */
+    private static final Sort ROLE_LISTING_SORT = Sort.by("id");
+
+    /**
+     * Rows fetched per round trip while streaming. The PostgreSQL driver only honours it, and reads
+     * through a cursor instead of buffering the whole result, when the connection is not in auto-commit.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email_lower";
+
+    /**
+     * Native so that it reaches the row regardless of the restriction on deleted users. Stamps the
+     * address in the same statement, which frees its phone number in
+     * {@value #PHONE_NUMBER_UNIQUE_CONSTRAINT}; counts the users marked.
+     */
+    private static final String MARK_DELETED = """
+        WITH deleted AS (
+            UPDATE users SET deleted_at = CURRENT_TIMESTAMP, last_modified_date = CURRENT_TIMESTAMP, version = version + 1
+            WHERE id = :id AND deleted_at IS NULL
+            RETURNING id, deleted_at
+        ), deleted_addresses AS (
+            UPDATE addresses SET deleted_at = deleted.deleted_at
+            FROM deleted
+            WHERE addresses.user_id = deleted.id
+        )
+        SELECT count(*) FROM deleted
+        """;
+
+    /**
+     * Addresses go with their user through the cascade of {@code fk_addresses_user}.
+     */
+    private static final String PURGE_DELETED = """
+        DELETE FROM users WHERE id IN (
+            SELECT id FROM users
+            WHERE deleted_at IS NOT NULL AND deleted_at < :deletedBefore
+            ORDER BY deleted_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """;
+
+    private static final String PHONE_NUMBER_UNIQUE_CONSTRAINT = "uk_addresses_phone_number_normalized";
+
+    /**
+     * Identifier of a caught-up change feed cursor, below every other so that the cursor comes before
+     * any change stamped at its date.
+     */
+    private static final UUID CAUGHT_UP_ID = new UUID(0, 0);
+
+    private final EntityManager entityManager;
+
     private final UserJpaRepository userJpaRepository;
 
+    private final UserSearchRepository userSearchRepository;
+
+    private final UserChangeRepository userChangeRepository;
+
     private final PersistenceMapper persistenceMapper;
 
+    /**
+     * Flushes so that the returned user carries the version incremented by the update, and so that
+     * a taken email or phone number surfaces here. A user modified since the version it was read at
+     * fails the merge's version check and is reported as a {@link VersionConflictException}.
+     */
     @Override
     public User save(User user) {
         var userEntity = persistenceMapper.fromUserToUserEntity(user);
-        var savedUserEntity = userJpaRepository.save(userEntity);
-        return persistenceMapper.fromUserEntityToUser(savedUserEntity);
+        try {
+            var savedUserEntity = userJpaRepository.saveAndFlush(userEntity);
+            return persistenceMapper.fromUserEntityToUser(savedUserEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateConflict(ex, user.getEmail(), phoneNumberOf(user));
+        } catch (OptimisticLockingFailureException ex) {
+            throw new VersionConflictException(
+                String.format("User with ID: %s was modified since version %d", user.getId(), user.getVersion()));
+        }
+    }
+
+    /**
+     * Persists rather than merges: the identifier is assigned up front, so a merge would first
+     * select the row. The flush sends the insert right away so that a taken email or phone number
+     * surfaces here as a violation of {@value #EMAIL_UNIQUE_CONSTRAINT} or
+     * {@value #PHONE_NUMBER_UNIQUE_CONSTRAINT} instead of at commit.
+     */
+    @Override
+    public User create(User user) {
+        var userEntity = persistenceMapper.fromUserToUserEntity(user);
+        entityManager.persist(userEntity);
+        try {
+            entityManager.flush();
+        } catch (PersistenceException ex) {
+            throw translateConflict(ex, user.getEmail(), phoneNumberOf(user));
+        }
+        return persistenceMapper.fromUserEntityToUser(userEntity);
+    }
+
+    /**
+     * Persists rather than merges, since the identifiers are assigned up front and a merge would
+     * first select every row. The persistence context is flushed and cleared every
+     * {@link #FLUSH_INTERVAL} users so that memory stays flat for large batches.
+     */
+    @Override
+    public List<User> saveAll(List<User> users) {
+        var savedUsers = new ArrayList<User>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            var userEntity = persistenceMapper.fromUserToUserEntity(users.get(i));
+            entityManager.persist(userEntity);
+            savedUsers.add(persistenceMapper.fromUserEntityToUser(userEntity));
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return savedUsers;
+    }
+
+    /**
+     * Issues one {@code UPDATE ... WHERE id = ? AND version = ?} that sets only the patched columns.
+     * Being a bulk update it bypasses the auditing listener, so the modification date is set here.
+     */
+    @Override
+    public boolean patch(UUID id, UserPatch patch) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var update = criteriaBuilder.createCriteriaUpdate(UserEntity.class);
+        var user = update.from(UserEntity.class);
+
+        if (patch.name() != null) {
+            update.set(user.<String>get("name"), patch.name());
+        }
+        if (patch.email() != null) {
+            update.set(user.<String>get("email"), patch.email());
+        }
+        if (patch.role() != null) {
+            update.set(user.<UserRole>get("role"), patch.role());
+        }
+        if (patch.status() != null) {
+            update.set(user.<UserStatus>get("status"), patch.status());
+        }
+        update.set(user.<Integer>get("version"), criteriaBuilder.sum(user.<Integer>get("version"), 1));
+        update.set(user.<Instant>get("lastModifiedDate"), Instant.now());
+        update.where(
+            criteriaBuilder.equal(user.get("id"), id),
+            criteriaBuilder.equal(user.get("version"), patch.version()),
+            criteriaBuilder.isNull(user.get("deletedAt"))
+        );
+
+        try {
+            return entityManager.createQuery(update).executeUpdate() == 1;
+        } catch (PersistenceException ex) {
+            throw translateConflict(ex, patch.email(), null);
+        }
     }
 
+    /**
+     * Reads go through {@link com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow}
+     * projections rather than entities: only the mapped columns are selected and nothing is added
+     * to the persistence context, which avoids hydrating entities and keeping dirty-checking snapshots.
+     */
     @Override
     public Optional<User> findById(UUID id) {
-        return userJpaRepository.findById(id)
-            .map(persistenceMapper::fromUserEntityToUser);
+        return userJpaRepository.findRowById(id)
+            .map(persistenceMapper::fromUserRowToUser);
+    }
+
+    @Override
+    public List<User> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return userJpaRepository.findRowsByIdIn(ids).stream()
+            .map(persistenceMapper::fromUserRowToUser)
+            .toList();
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return userJpaRepository.findByEmail(email)
-            .map(persistenceMapper::fromUserEntityToUser);
+        return userJpaRepository.findRowByEmail(User.normalizeEmail(email))
+            .map(persistenceMapper::fromUserRowToUser);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        var normalizedEmails = emails.stream().map(User::normalizeEmail).toList();
+        return new HashSet<>(userJpaRepository.findEmailsByEmailIn(normalizedEmails));
     }
 
     @Override
     public Optional<User> findByPhoneNumber(String phoneNumber) {
-        return userJpaRepository.findByPhoneNumber(phoneNumber)
-            .map(persistenceMapper::fromUserEntityToUser);
+        var normalizedPhoneNumber = Address.normalizePhoneNumber(phoneNumber);
+        if (normalizedPhoneNumber == null) {
+            return Optional.empty();
+        }
+        return userJpaRepository.findRowByNormalizedPhoneNumber(normalizedPhoneNumber)
+            .map(persistenceMapper::fromUserRowToUser);
     }
 
     @Override
     public Page<User> findAll(Pageable pageable) {
-        return userJpaRepository.findAll(pageable)
-            .map(persistenceMapper::fromUserEntityToUser);
+        return userJpaRepository.findAllRows(pageable)
+            .map(persistenceMapper::fromUserRowToUser);
+    }
+
+    /**
+     * Reads one row more than requested to tell whether another slice follows, so the last slice
+     * is never an empty round trip.
+     */
+    @Override
+    public UserSlice findAllAfter(UserCursor cursor, int limit) {
+        var entities = cursor == null
+            ? userJpaRepository.findFirstByKeyset(Limit.of(limit + 1))
+            : userJpaRepository.findAfterByKeyset(cursor.createdDate(), cursor.id(), Limit.of(limit + 1));
+
+        if (entities.size() <= limit) {
+            return new UserSlice(toUsers(entities), null);
+        }
+        var slice = entities.subList(0, limit);
+        var last = slice.get(limit - 1);
+        return new UserSlice(toUsers(slice), new UserCursor(last.getCreatedDate(), last.getId()));
+    }
+
+    /**
+     * Reads one match more than requested to tell whether another slice follows, as
+     * {@link #findAllAfter(UserCursor, int)} does.
+     */
+    @Override
+    public UserSearchSlice search(String query, UserSearchCursor cursor, int limit) {
+        var matches = userSearchRepository.search(query, cursor, limit + 1);
+        var users = matches.stream()
+            .limit(limit)
+            .map(match -> persistenceMapper.fromUserRowToUser(match.row()))
+            .toList();
+
+        if (matches.size() <= limit) {
+            return new UserSearchSlice(users, null);
+        }
+        var last = matches.get(limit - 1);
+        return new UserSearchSlice(users, new UserSearchCursor(last.score(), last.row().id()));
+    }
+
+    /**
+     * Reads one change more than requested to tell whether more are already available, as
+     * {@link #findAllAfter(UserCursor, int)} does. A read that is caught up has seen every change
+     * before {@code until}, so its cursor moves there; {@code until} is cut to the microsecond precision
+     * of the column so that the changes stamped exactly at it are read next time.
+     */
+    @Override
+    public UserChangeSlice findChangedAfter(UserChangeCursor cursor, Instant until, int limit) {
+        var horizon = until.truncatedTo(ChronoUnit.MICROS);
+        var changes = userChangeRepository.findChangedAfter(cursor, horizon, limit + 1);
+        var slice = changes.stream()
+            .limit(limit)
+            .map(change -> new UserChange(change.row().id(), change.modifiedDate(),
+                change.deleted() ? null : persistenceMapper.fromUserRowToUser(change.row())))
+            .toList();
+
+        if (changes.size() <= limit) {
+            return new UserChangeSlice(slice, new UserChangeCursor(horizon, CAUGHT_UP_ID), false);
+        }
+        var last = slice.getLast();
+        return new UserChangeSlice(slice, new UserChangeCursor(last.modifiedDate(), last.id()), true);
     }
 
     @Override
     public Page<User> findByRole(UserRole role, Pageable pageable) {
-        return null;
+        return userJpaRepository.findByRole(role, withRoleListingSort(pageable))
+            .map(persistenceMapper::fromUserEntityToUser);
     }
 
     @Override
     public Page<User> findByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable) {
-        return null;
+        return userJpaRepository.findByRoleAndStatus(role, status, withRoleListingSort(pageable))
+            .map(persistenceMapper::fromUserEntityToUser);
+    }
+
+    @Override
+    public Slice<User> findSliceByRole(UserRole role, Pageable pageable) {
+        return userJpaRepository.findSliceByRole(role, withRoleListingSort(pageable))
+            .map(persistenceMapper::fromUserEntityToUser);
+    }
+
+    @Override
+    public Slice<User> findSliceByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable) {
+        return userJpaRepository.findSliceByRoleAndStatus(role, status, withRoleListingSort(pageable))
+            .map(persistenceMapper::fromUserEntityToUser);
+    }
+
+    /**
+     * Projects rows as in {@link #findById(UUID)}, so nothing accumulates in the persistence context
+     * while the cursor advances. Only the criteria that are set end up in the statement.
+     */
+    @Override
+    public Stream<User> streamAll(UserFilter filter) {
+        var conditions = new ArrayList<String>();
+        if (filter.role() != null) {
+            conditions.add("u.role = :role");
+        }
+        if (filter.status() != null) {
+            conditions.add("u.status = :status");
+        }
+        if (filter.country() != null) {
+            conditions.add("a.country = :country");
+        }
+        var jpql = conditions.isEmpty()
+            ? UserJpaRepository.USER_ROW_SELECT
+            : UserJpaRepository.USER_ROW_SELECT + "WHERE " + String.join(" AND ", conditions);
+
+        var query = entityManager.createQuery(jpql, UserRow.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        if (filter.role() != null) {
+            query.setParameter("role", filter.role());
+        }
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status());
+        }
+        if (filter.country() != null) {
+            query.setParameter("country", filter.country());
+        }
+        return query.getResultStream()
+            .map(persistenceMapper::fromUserRowToUser);
     }
 
     @Override
     public boolean existsById(UUID id) {
-        return false;
+        return userJpaRepository.existsRowById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userJpaRepository.existsRowByEmail(User.normalizeEmail(email));
+    }
+
+    @Override
+    public boolean markDeleted(UUID id) {
+        var marked = (Number) entityManager.createNativeQuery(MARK_DELETED, Long.class)
+            .setParameter("id", id)
+            .getSingleResult();
+        return marked.longValue() == 1;
     }
 
     @Override
-    public void deleteById(UUID id) {
-        userJpaRepository.deleteById(id);
+    public int purgeDeleted(Instant deletedBefore, int limit) {
+        return entityManager.createNativeQuery(PURGE_DELETED)
+            .setParameter("deletedBefore", deletedBefore)
+            .setParameter("limit", limit)
+            .executeUpdate();
+    }
+
+    private List<User> toUsers(List<UserEntity> entities) {
+        return entities.stream()
+            .map(persistenceMapper::fromUserEntityToUser)
+            .toList();
+    }
+
+    private Pageable withRoleListingSort(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), ROLE_LISTING_SORT);
+    }
+
+    private void flushAndClear() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException ex) {
+            if (violatedConstraint(ex) == null) {
+                throw ex;
+            }
+            // A concurrent writer took one of the emails after the batch was checked, or a phone number is taken.
+            throw new UserDomainException("One or more users conflict with existing users", ex);
+        }
+        entityManager.clear();
+    }
+
+    private static RuntimeException translateConflict(RuntimeException ex, String email, String phoneNumber) {
+        var constraint = violatedConstraint(ex);
+        if (EMAIL_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraint)) {
+            return new UserDomainException(String.format("User with email %s already exists", email), ex);
+        }
+        if (PHONE_NUMBER_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraint)) {
+            return new UserDomainException(String.format("User with phone number %s already exists", phoneNumber), ex);
+        }
+        return ex;
+    }
+
+    private static String phoneNumberOf(User user) {
+        return user.getAddress() != null ? user.getAddress().getPhoneNumber() : null;
+    }
+
+    /**
+     * Returns the name of the constraint whose violation caused {@code ex}, or {@code null} if it was
+     * not caused by a constraint violation. Hibernate may throw the violation as is or wrap it,
+     * depending on where the flush was triggered.
+     */
+    private static String violatedConstraint(RuntimeException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null ? violation.getConstraintName() : "";
+            }
+        }
+        return null;
     }
 }
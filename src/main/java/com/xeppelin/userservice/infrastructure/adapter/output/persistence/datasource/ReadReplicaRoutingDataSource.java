@@ -0,0 +1,66 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the healthy replicas in turn and everything else to the primary.
+ * When no replica is healthy, reads fall back to the primary.
+ * <p>
+ * The lookup relies on the read-only flag of the current transaction, which is only set once the
+ * transaction has begun; this data source must therefore sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the physical
+ * connection is fetched at the first statement rather than when the transaction starts.
+ * </p>
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<ReplicaPool> replicas;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas) {
+        this.replicas = List.copyOf(replicas);
+
+        var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        var start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (replica.isHealthy()) {
+                return replica.getName();
+            }
+        }
+        log.debug("No healthy read replica, routing read-only transaction to the primary");
+        return PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+}
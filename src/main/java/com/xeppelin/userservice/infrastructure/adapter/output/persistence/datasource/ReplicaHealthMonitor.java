@@ -0,0 +1,82 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource;
+
+import com.xeppelin.userservice.infrastructure.config.properties.ReadReplicaProperties;
+import java.util.LinkedHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically measures the replication lag of every read replica and takes a replica out of the
+ * read rotation when it cannot be reached or lags more than {@code max-lag} behind the primary.
+ * <p>
+ * The lag is zero when the replica has replayed everything it received, so an idle primary does
+ * not make its replicas look stale; otherwise it is the age of the last replayed transaction.
+ * Since reads fall back to the primary, the service stays up when replicas are down; the health
+ * details only report which replicas are in rotation.
+ * </p>
+ */
+@Slf4j
+public class ReplicaHealthMonitor implements HealthIndicator {
+
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+        END::bigint
+        """;
+
+    private final ReadReplicaRoutingDataSource routingDataSource;
+
+    private final long maxLagMillis;
+
+    private final int queryTimeoutSeconds;
+
+    public ReplicaHealthMonitor(ReadReplicaRoutingDataSource routingDataSource, ReadReplicaProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.queryTimeoutSeconds = (int) Math.max(properties.getHealthCheckTimeout().toSeconds(), 1);
+    }
+
+    @Scheduled(fixedDelayString = "${xeppelin.datasource.read-replicas.health-check-interval:5s}")
+    public void check() {
+        routingDataSource.getReplicas().forEach(this::check);
+    }
+
+    private void check(ReplicaPool replica) {
+        var wasHealthy = replica.isHealthy();
+        try {
+            var jdbcTemplate = new JdbcTemplate(replica.getDataSource());
+            jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+            var lagMillis = jdbcTemplate.queryForObject(LAG_QUERY, Long.class);
+            if (lagMillis != null && lagMillis <= maxLagMillis) {
+                replica.markHealthy(lagMillis);
+                if (!wasHealthy) {
+                    log.info("Read replica {} is back in rotation, lag {} ms", replica.getName(), lagMillis);
+                }
+            } else {
+                replica.markUnhealthy(lagMillis != null ? lagMillis : -1);
+                if (wasHealthy) {
+                    log.warn("Read replica {} lags {} ms behind, taking it out of rotation", replica.getName(), lagMillis);
+                }
+            }
+        } catch (DataAccessException ex) {
+            replica.markUnhealthy(-1);
+            if (wasHealthy) {
+                log.warn("Read replica {} is unreachable, taking it out of rotation: {}", replica.getName(), ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Health health() {
+        var details = new LinkedHashMap<String, Object>();
+        routingDataSource.getReplicas().forEach(replica -> details.put(replica.getName(),
+            replica.isHealthy() ? "in rotation, lag " + replica.getLagMillis() + " ms" : "out of rotation"));
+        return Health.up().withDetails(details).build();
+    }
+}
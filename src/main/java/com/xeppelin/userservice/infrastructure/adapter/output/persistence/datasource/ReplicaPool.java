@@ -0,0 +1,38 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+/**
+ * Connection pool of one read replica together with the outcome of its last health check.
+ * A replica starts unhealthy and only receives reads once a check has passed.
+ */
+@Getter
+public class ReplicaPool {
+
+    private final String name;
+
+    private final HikariDataSource dataSource;
+
+    private volatile boolean healthy;
+
+    /**
+     * Replication lag measured by the last successful check, in milliseconds; {@code -1} if unknown.
+     */
+    private volatile long lagMillis = -1;
+
+    public ReplicaPool(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void markHealthy(long lagMillis) {
+        this.lagMillis = lagMillis;
+        this.healthy = true;
+    }
+
+    void markUnhealthy(long lagMillis) {
+        this.lagMillis = lagMillis;
+        this.healthy = false;
+    }
+}
@@ -15,7 +15,6 @@ import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.annotation.Version;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Getter
@@ -45,8 +44,4 @@ public abstract class AbstractAuditing implements Serializable {
     @JsonIgnore
     @LastModifiedDate
     private Instant lastModifiedDate;
-
-    @JsonIgnore
-    @Version
-    private int version;
 }
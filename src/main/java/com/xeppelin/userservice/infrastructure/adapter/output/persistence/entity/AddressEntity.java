@@ -52,4 +52,10 @@ public class AddressEntity extends AbstractAuditing {
 
     @Column(name = "phone_number", length = 20)
     private String phoneNumber;
+
+    /**
+     * Computed by the database from {@link #phoneNumber}, hence read-only here.
+     */
+    @Column(name = "phone_number_normalized", length = 20, insertable = false, updatable = false)
+    private String normalizedPhoneNumber;
 } 
\ No newline at end of file
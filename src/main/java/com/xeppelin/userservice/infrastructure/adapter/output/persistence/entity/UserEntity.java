@@ -11,6 +11,8 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +20,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 @Getter
 @Setter
@@ -26,6 +29,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@SQLRestriction("deleted_at IS NULL")
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 public class UserEntity extends AbstractAuditing {
 
@@ -49,4 +53,27 @@ public class UserEntity extends AbstractAuditing {
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private AddressEntity address;
+
+    /**
+     * When the user was deleted, or {@code null} while it is live. Deleted users are hidden from every
+     * query on this entity by the {@link SQLRestriction} and only written by native statements, so that
+     * saving a stale entity can never bring a deleted user back.
+     */
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private Instant deletedAt;
+
+    /**
+     * Checked and incremented by Hibernate whenever a changed entity is merged, so that a PUT bumps
+     * the version just like the conditional update behind a PATCH does, and a merge based on a stale
+     * version fails instead of overwriting the newer row. Addresses are only ever written through
+     * their user, so their own {@code version} column is left unmapped.
+     * <p>
+     * A wrapper rather than an {@code int}: Hibernate takes a version equal to the unsaved value as
+     * the mark of a new entity, which for an {@code int} is {@code 0}, the version of every user that
+     * was never updated. Its merge would then insert the user again instead of updating it.
+     * </p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
 }
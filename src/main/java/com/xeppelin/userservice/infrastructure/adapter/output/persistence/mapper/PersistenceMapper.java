@@ -4,6 +4,7 @@ import com.xeppelin.userservice.domain.model.Address;
 import com.xeppelin.userservice.domain.model.User;
 import com.xeppelin.userservice.infrastructure.adapter.output.persistence.entity.AddressEntity;
 import com.xeppelin.userservice.infrastructure.adapter.output.persistence.entity.UserEntity;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Builder;
 import org.mapstruct.Mapper;
@@ -19,7 +20,6 @@ public interface PersistenceMapper {
     @Mapping(target = "createdDate", ignore = true)
     @Mapping(target = "lastModifiedBy", ignore = true)
     @Mapping(target = "lastModifiedDate", ignore = true)
-    @Mapping(target = "version", ignore = true)
     UserEntity fromUserToUserEntity(User user);
 
     @AfterMapping
@@ -70,7 +70,36 @@ public interface PersistenceMapper {
             .email(userEntity.getEmail())
             .role(userEntity.getRole())
             .status(userEntity.getStatus())
+            .version(userEntity.getVersion())
             .address(fromAddressEntityToAddress(userEntity.getAddress()))
             .build();
     }
+
+    @Named("fromUserRowToUser")
+    default User fromUserRowToUser(UserRow userRow) {
+        if (userRow == null) {
+            return null;
+        }
+
+        var address = userRow.addressId() == null ? null : Address.builder()
+            .id(userRow.addressId())
+            .line1(userRow.line1())
+            .line2(userRow.line2())
+            .city(userRow.city())
+            .state(userRow.state())
+            .postalCode(userRow.postalCode())
+            .country(userRow.country())
+            .phoneNumber(userRow.phoneNumber())
+            .build();
+
+        return User.builder()
+            .id(userRow.id())
+            .name(userRow.name())
+            .email(userRow.email())
+            .role(userRow.role())
+            .status(userRow.status())
+            .version(userRow.version())
+            .address(address)
+            .build();
+    }
 }
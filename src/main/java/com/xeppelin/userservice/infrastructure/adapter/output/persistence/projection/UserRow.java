@@ -0,0 +1,32 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection;
+
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import java.util.UUID;
+
+/**
+ * Flat, read-only view of a user and its address, built by JPQL constructor expressions.
+ * Unlike {@link com.xeppelin.userservice.infrastructure.adapter.output.persistence.entity.UserEntity}
+ * it is never managed by the persistence context: no entity is hydrated, no snapshot is kept for
+ * dirty checking and the auditing columns are not read.
+ * <p>
+ * The address columns are all {@code null} when the user has no address.
+ * </p>
+ */
+public record UserRow(
+    UUID id,
+    String name,
+    String email,
+    UserRole role,
+    UserStatus status,
+    int version,
+    UUID addressId,
+    String line1,
+    String line2,
+    String city,
+    String state,
+    String postalCode,
+    String country,
+    String phoneNumber
+) {
+}
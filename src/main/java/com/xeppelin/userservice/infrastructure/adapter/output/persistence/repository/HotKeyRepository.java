@@ -0,0 +1,51 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Access to the {@code user_hot_keys} table holding the most requested user ids.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HotKeyRepository {
+
+    private static final String UPSERT = """
+        INSERT INTO user_hot_keys (user_id, hits, recorded_at)
+        VALUES (?, ?, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id) DO UPDATE SET hits = EXCLUDED.hits, recorded_at = EXCLUDED.recorded_at
+        """;
+
+    private static final String DELETE_EXPIRED = """
+        DELETE FROM user_hot_keys WHERE recorded_at < CURRENT_TIMESTAMP - ? * INTERVAL '1 second'
+        """;
+
+    private static final String FIND_HOTTEST = """
+        SELECT user_id FROM user_hot_keys
+        WHERE recorded_at >= CURRENT_TIMESTAMP - ? * INTERVAL '1 second'
+        ORDER BY hits DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(Map<UUID, Long> hitsByUserId) {
+        var arguments = new ArrayList<Object[]>(hitsByUserId.size());
+        hitsByUserId.forEach((userId, hits) -> arguments.add(new Object[] {userId, hits}));
+        jdbcTemplate.batchUpdate(UPSERT, arguments);
+    }
+
+    public int deleteRecordedBefore(Duration age) {
+        return jdbcTemplate.update(DELETE_EXPIRED, age.toSeconds());
+    }
+
+    public List<UUID> findHottest(int limit, Duration maxAge) {
+        return jdbcTemplate.queryForList(FIND_HOTTEST, UUID.class, maxAge.toSeconds(), limit);
+    }
+}
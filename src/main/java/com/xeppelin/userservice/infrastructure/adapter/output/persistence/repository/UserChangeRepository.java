@@ -0,0 +1,81 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository;
+
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the users modified after a cursor, deleted ones included, for the change feed.
+ * <p>
+ * Changes are read in {@code (last_modified_date, id)} order, which the index of
+ * {@code V11__Add_users_change_feed_index.sql} returns without sorting, so a read costs the number of
+ * changes it returns rather than the size of the table. The query is native because deleted users,
+ * which the entity mapping hides, are changes too.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserChangeRepository {
+
+    private static final String CHANGES = """
+        SELECT u.id, u.name, u.email, u.role, u.status, u.version, u.last_modified_date, u.deleted_at,
+               a.id AS address_id, a.address_line1, a.address_line2, a.city, a.state, a.postal_code,
+               a.country, a.phone_number
+        FROM users u
+        LEFT JOIN addresses a ON a.user_id = u.id
+        WHERE u.last_modified_date < :until
+        """;
+
+    private static final String AFTER_CURSOR = """
+        AND (u.last_modified_date, u.id) > (:modifiedDate, :id)
+        """;
+
+    private static final String ORDER_AND_LIMIT = """
+        ORDER BY u.last_modified_date, u.id
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * A user modified after the cursor, in its current state.
+     */
+    public record Change(UserRow row, Instant modifiedDate, boolean deleted) {
+    }
+
+    /**
+     * Finds up to {@code limit} users modified after the cursor and strictly before {@code until}.
+     *
+     * @param cursor where to start, or {@code null} to start from the oldest change
+     */
+    public List<Change> findChangedAfter(UserChangeCursor cursor, Instant until, int limit) {
+        // Bound as timestamps, which the driver converts with the same time zone as Hibernate
+        var parameters = new MapSqlParameterSource()
+            .addValue("until", Timestamp.from(until))
+            .addValue("limit", limit);
+        if (cursor != null) {
+            parameters.addValue("modifiedDate", Timestamp.from(cursor.modifiedDate()))
+                .addValue("id", cursor.id());
+        }
+        return namedParameterJdbcTemplate.query(changesSql(cursor != null), parameters, UserChangeRepository::toChange);
+    }
+
+    static String changesSql(boolean afterCursor) {
+        return CHANGES + (afterCursor ? AFTER_CURSOR : "") + ORDER_AND_LIMIT;
+    }
+
+    private static Change toChange(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Change(
+            UserSearchRepository.toUserRow(resultSet),
+            resultSet.getTimestamp("last_modified_date").toInstant(),
+            resultSet.getTimestamp("deleted_at") != null);
+    }
+}
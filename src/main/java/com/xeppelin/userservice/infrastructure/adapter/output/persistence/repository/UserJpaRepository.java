@@ -1,8 +1,19 @@
 package com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository;
 
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
 import com.xeppelin.userservice.infrastructure.adapter.output.persistence.entity.UserEntity;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,8 +22,55 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
 
-    Optional<UserEntity> findByEmail(String email);
+    String USER_ROW_SELECT = "SELECT new com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow("
+        + "u.id, u.name, u.email, u.role, u.status, u.version, "
+        + "a.id, a.line1, a.line2, a.city, a.state, a.postalCode, a.country, a.phoneNumber) "
+        + "FROM UserEntity u LEFT JOIN u.address a ";
 
-    @Query("SELECT u FROM UserEntity u JOIN u.address a WHERE a.phoneNumber = :phoneNumber")
-    Optional<UserEntity> findByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+    @Query(USER_ROW_SELECT + "WHERE u.id = :id")
+    Optional<UserRow> findRowById(@Param("id") UUID id);
+
+    @Query(USER_ROW_SELECT + "WHERE u.id IN :ids")
+    List<UserRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Emails are matched through the unique index on {@code lower(email)}, so {@code email} must be
+     * lower-cased already. The same holds for the other lookups by email.
+     */
+    @Query(USER_ROW_SELECT + "WHERE lower(u.email) = :email")
+    Optional<UserRow> findRowByEmail(@Param("email") String email);
+
+    @Query(USER_ROW_SELECT + "WHERE a.normalizedPhoneNumber = :normalizedPhoneNumber")
+    Optional<UserRow> findRowByNormalizedPhoneNumber(@Param("normalizedPhoneNumber") String normalizedPhoneNumber);
+
+    @Query(value = USER_ROW_SELECT, countQuery = "SELECT count(u) FROM UserEntity u")
+    Page<UserRow> findAllRows(Pageable pageable);
+
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.address ORDER BY u.createdDate, u.id")
+    List<UserEntity> findFirstByKeyset(Limit limit);
+
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.address "
+        + "WHERE (u.createdDate, u.id) > (:createdDate, :id) ORDER BY u.createdDate, u.id")
+    List<UserEntity> findAfterByKeyset(@Param("createdDate") Instant createdDate, @Param("id") UUID id, Limit limit);
+
+    @EntityGraph(attributePaths = "address")
+    Page<UserEntity> findByRole(UserRole role, Pageable pageable);
+
+    @EntityGraph(attributePaths = "address")
+    Page<UserEntity> findByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "address")
+    Slice<UserEntity> findSliceByRole(UserRole role, Pageable pageable);
+
+    @EntityGraph(attributePaths = "address")
+    Slice<UserEntity> findSliceByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable);
+
+    @Query("SELECT CASE WHEN count(*) > 0 THEN true ELSE false END FROM UserEntity u WHERE u.id = :id")
+    boolean existsRowById(@Param("id") UUID id);
+
+    @Query("SELECT CASE WHEN count(*) > 0 THEN true ELSE false END FROM UserEntity u WHERE lower(u.email) = :email")
+    boolean existsRowByEmail(@Param("email") String email);
+
+    @Query("SELECT u.email FROM UserEntity u WHERE lower(u.email) IN :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
 }
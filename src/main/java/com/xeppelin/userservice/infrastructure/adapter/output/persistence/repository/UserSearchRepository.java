@@ -0,0 +1,99 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository;
+
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.projection.UserRow;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Fuzzy search of users by name or email with {@code pg_trgm}.
+ * <p>
+ * Users match when the query is similar to a part of their name or email ({@code <%}, word similarity
+ * above {@code pg_trgm.word_similarity_threshold}), which the trigram indexes of
+ * {@code V6__Add_users_trigram_indexes.sql} answer without scanning the table. Matches are ranked by
+ * their best word similarity, then id, and paginated on that key. The query is native since JPQL has
+ * no trigram operators, so it leaves deleted users out itself.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private static final String SEARCH = """
+        SELECT * FROM (
+            SELECT u.id, u.name, u.email, u.role, u.status, u.version,
+                   a.id AS address_id, a.address_line1, a.address_line2, a.city, a.state, a.postal_code,
+                   a.country, a.phone_number,
+                   greatest(word_similarity(:query, u.name), word_similarity(:query, u.email)) AS score
+            FROM users u
+            LEFT JOIN addresses a ON a.user_id = u.id
+            WHERE (:query <% u.name OR :query <% u.email) AND u.deleted_at IS NULL
+        ) matches
+        """;
+
+    private static final String AFTER_CURSOR = """
+        WHERE score < :score OR (score = :score AND id > :id)
+        """;
+
+    private static final String ORDER_AND_LIMIT = """
+        ORDER BY score DESC, id
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * A user matching a search, with its relevance.
+     */
+    public record Match(UserRow row, float score) {
+    }
+
+    public List<Match> search(String query, UserSearchCursor cursor, int limit) {
+        var parameters = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("limit", limit);
+        if (cursor != null) {
+            parameters.addValue("score", cursor.score())
+                .addValue("id", cursor.id());
+        }
+        return namedParameterJdbcTemplate.query(searchSql(cursor != null), parameters, UserSearchRepository::toMatch);
+    }
+
+    static String searchSql(boolean afterCursor) {
+        return SEARCH + (afterCursor ? AFTER_CURSOR : "") + ORDER_AND_LIMIT;
+    }
+
+    private static Match toMatch(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Match(toUserRow(resultSet), resultSet.getFloat("score"));
+    }
+
+    /**
+     * Reads the user and address columns selected by {@link #SEARCH}, under the same names.
+     */
+    static UserRow toUserRow(ResultSet resultSet) throws SQLException {
+        return new UserRow(
+            resultSet.getObject("id", UUID.class),
+            resultSet.getString("name"),
+            resultSet.getString("email"),
+            UserRole.valueOf(resultSet.getString("role")),
+            UserStatus.valueOf(resultSet.getString("status")),
+            resultSet.getInt("version"),
+            resultSet.getObject("address_id", UUID.class),
+            resultSet.getString("address_line1"),
+            resultSet.getString("address_line2"),
+            resultSet.getString("city"),
+            resultSet.getString("state"),
+            resultSet.getString("postal_code"),
+            resultSet.getString("country"),
+            resultSet.getString("phone_number")
+        );
+    }
+}
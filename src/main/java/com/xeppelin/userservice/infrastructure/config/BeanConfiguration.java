@@ -1,8 +1,12 @@
 package com.xeppelin.userservice.infrastructure.config;
 
+import com.xeppelin.userservice.application.port.output.UserBulkLoader;
 import com.xeppelin.userservice.application.port.output.UserRepository;
+import com.xeppelin.userservice.domain.service.IdGenerator;
 import com.xeppelin.userservice.domain.service.UserDomainService;
 import com.xeppelin.userservice.domain.service.impl.UserDomainServiceImpl;
+import com.xeppelin.userservice.domain.service.impl.UuidV7Generator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,7 +14,18 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfiguration {
 
     @Bean
-    public UserDomainService userDomainService(UserRepository userRepository) {
-        return new UserDomainServiceImpl(userRepository);
+    public UserDomainService userDomainService(UserRepository userRepository, UserBulkLoader userBulkLoader,
+                                               IdGenerator idGenerator) {
+        return new UserDomainServiceImpl(userRepository, userBulkLoader, idGenerator);
+    }
+
+    /**
+     * Time-ordered identifiers keep inserts at the right edge of the primary key indexes.
+     * Declare another {@link IdGenerator} bean to replace it.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGenerator idGenerator() {
+        return new UuidV7Generator();
     }
 }
@@ -0,0 +1,9 @@
+package com.xeppelin.userservice.infrastructure.config;
+
+import com.xeppelin.userservice.infrastructure.config.properties.UserChangeStreamProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserChangeStreamProperties.class)
+public class ChangeStreamConfiguration {}
@@ -0,0 +1,46 @@
+package com.xeppelin.userservice.infrastructure.config;
+
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.CacheCircuitBreaker;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.ResilientCacheManager;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.TwoTierCacheManager;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Enables the in-process L1 tier in front of the Redis caches when
+ * {@code xeppelin.cache.near-cache.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "xeppelin.cache.near-cache", name = "enabled", havingValue = "true")
+public class NearCacheConfiguration {
+
+    @Bean
+    @Primary
+    public TwoTierCacheManager twoTierCacheManager(ResilientCacheManager redisCacheManager,
+                                                   StringRedisTemplate stringRedisTemplate,
+                                                   CacheCircuitBreaker cacheCircuitBreaker,
+                                                   UserCacheProperties userCacheProperties,
+                                                   MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, cacheCircuitBreaker,
+            userCacheProperties.getNearCache(), meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheManager twoTierCacheManager,
+                                                                            UserCacheProperties userCacheProperties) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(twoTierCacheManager,
+            new ChannelTopic(userCacheProperties.getNearCache().getInvalidationChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,27 @@
+package com.xeppelin.userservice.infrastructure.config;
+
+import com.xeppelin.userservice.infrastructure.adapter.output.outbox.RedisStreamUserChangeEventSink;
+import com.xeppelin.userservice.infrastructure.adapter.output.outbox.UserChangeEventSink;
+import com.xeppelin.userservice.infrastructure.config.properties.UserOutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Publishes the user changes of the outbox to a Redis stream, unless another
+ * {@link UserChangeEventSink} is defined.
+ */
+@Configuration
+@EnableConfigurationProperties(UserOutboxProperties.class)
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(UserChangeEventSink.class)
+    public UserChangeEventSink userChangeEventSink(StringRedisTemplate stringRedisTemplate,
+                                                   UserOutboxProperties properties) {
+        var stream = properties.getStream();
+        return new RedisStreamUserChangeEventSink(stringRedisTemplate, stream.getKey(), stream.getMaxLength());
+    }
+}
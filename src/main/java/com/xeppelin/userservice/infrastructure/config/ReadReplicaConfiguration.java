@@ -0,0 +1,71 @@
+package com.xeppelin.userservice.infrastructure.config;
+
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource.ReadReplicaRoutingDataSource;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource.ReplicaHealthMonitor;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource.ReplicaPool;
+import com.xeppelin.userservice.infrastructure.config.properties.ReadReplicaProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Routes read-only transactions to read replicas when {@code xeppelin.datasource.read-replicas.enabled}
+ * is set. The primary pool is still configured through {@code spring.datasource}; declaring it here
+ * switches off Spring Boot's own data source, so the application and Flyway use the routing one.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "xeppelin.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     ReadReplicaProperties readReplicaProperties) {
+        var replicas = readReplicaProperties.getReplicas()
+            .stream()
+            .map(ReadReplicaConfiguration::replicaPool)
+            .toList();
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor readReplicasHealthIndicator(ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+                                                            ReadReplicaProperties readReplicaProperties) {
+        return new ReplicaHealthMonitor(readReplicaRoutingDataSource, readReplicaProperties);
+    }
+
+    private static ReplicaPool replicaPool(ReadReplicaProperties.Replica replica) {
+        var config = new HikariConfig();
+        replica.getHikari().copyStateTo(config);
+        config.setPoolName("replica-" + replica.getName());
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername());
+        config.setPassword(replica.getPassword());
+        config.setReadOnly(true);
+        // Start even if the replica is down: the health monitor keeps it out of rotation until it answers
+        config.setInitializationFailTimeout(-1);
+        return new ReplicaPool(replica.getName(), new HikariDataSource(config));
+    }
+}
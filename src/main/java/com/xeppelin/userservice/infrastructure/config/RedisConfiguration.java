@@ -1,31 +1,141 @@
 package com.xeppelin.userservice.infrastructure.config;
 
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.CacheCircuitBreaker;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.JitteredTtlFunction;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.MultiGetRedisCacheManager;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.ResilientCache;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.ResilientCacheManager;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.codec.CompactUserRedisSerializer;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({CacheProperties.class, UserCacheProperties.class})
 public class RedisConfiguration {
 
     @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
-        return builder -> builder
-            .enableStatistics();
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(RedisCacheConfiguration cacheConfiguration,
+                                                                                 CacheProperties cacheProperties,
+                                                                                 UserCacheProperties userCacheProperties) {
+        return builder -> {
+            userCacheProperties.getCaches().forEach((cacheName, spec) -> {
+                var config = cacheConfiguration.serializeValuesWith(valueSerializationPair(spec.getCodec()));
+                var timeToLive = userCacheProperties.timeToLiveFor(cacheName, cacheProperties.getRedis().getTimeToLive());
+                if (timeToLive != null) {
+                    config = config.entryTtl(new JitteredTtlFunction(timeToLive, spec.getTtlJitter()));
+                }
+                builder.withCacheConfiguration(cacheName, config);
+            });
+        };
     }
 
+    /**
+     * Defaults shared by every cache. Declaring this bean switches off Spring Boot's own mapping of
+     * {@code spring.cache.redis.*}, so those properties are applied here.
+     */
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
-        return RedisCacheConfiguration.defaultCacheConfig()
-            .disableCachingNullValues()
+    public RedisCacheConfiguration cacheConfiguration(CacheProperties cacheProperties) {
+        var redisProperties = cacheProperties.getRedis();
+        var config = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+            .serializeValuesWith(valueSerializationPair(UserCacheProperties.Codec.JSON));
+        if (redisProperties.getTimeToLive() != null) {
+            config = config.entryTtl(redisProperties.getTimeToLive());
+        }
+        if (redisProperties.getKeyPrefix() != null) {
+            config = config.prefixCacheNameWith(redisProperties.getKeyPrefix());
+        }
+        if (!redisProperties.isCacheNullValues()) {
+            config = config.disableCachingNullValues();
+        }
+        if (!redisProperties.isUseKeyPrefix()) {
+            config = config.disableKeyPrefix();
+        }
+        return config;
     }
-} 
\ No newline at end of file
+
+    @Bean
+    public CacheCircuitBreaker cacheCircuitBreaker(UserCacheProperties userCacheProperties,
+                                                   MeterRegistry meterRegistry) {
+        var settings = userCacheProperties.getCircuitBreaker();
+        var circuitBreaker = new CacheCircuitBreaker(settings.getFailureThreshold(),
+            settings.getOpenDuration(), settings.getSlowCallThreshold());
+        circuitBreaker.bindTo(meterRegistry);
+        return circuitBreaker;
+    }
+
+    /**
+     * Built explicitly so that it can be decorated while still applying the
+     * {@link RedisCacheManagerBuilderCustomizer}s in the context: the builder collects the
+     * per-cache configurations, transaction awareness and whether unknown caches may be created,
+     * which are then handed to a {@link MultiGetRedisCacheManager}. Statistics are always collected,
+     * since the cache metrics depend on them, and a cache writer set by a customizer is not used:
+     * the manager always writes through its own non-locking writer.
+     * The Redis manager itself is not exposed as a bean: callers only ever see the fail-open
+     * wrapper, optionally fronted by the near cache (see {@link NearCacheConfiguration}).
+     */
+    @Bean
+    public ResilientCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                   RedisCacheConfiguration cacheConfiguration,
+                                                   ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+                                                   CacheCircuitBreaker cacheCircuitBreaker,
+                                                   UserCacheProperties userCacheProperties,
+                                                   MeterRegistry meterRegistry) {
+        var builder = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(cacheConfiguration);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+
+        var initialCacheConfigurations = new LinkedHashMap<String, RedisCacheConfiguration>();
+        builder.getConfiguredCaches().forEach(cacheName -> builder.getCacheConfigurationFor(cacheName)
+            .ifPresent(config -> initialCacheConfigurations.put(cacheName, config)));
+        var cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory)
+            .withStatisticsCollector(CacheStatisticsCollector.create());
+
+        var redisCacheManager = new MultiGetRedisCacheManager(cacheWriter, redisConnectionFactory,
+            builder.cacheDefaults(), builder.isAllowRuntimeCacheCreation(), initialCacheConfigurations);
+        redisCacheManager.setTransactionAware(builder.isTransactionAware());
+        redisCacheManager.afterPropertiesSet();
+        return new ResilientCacheManager(redisCacheManager, cacheCircuitBreaker,
+            userCacheProperties.getCircuitBreaker().getMaxPendingEvictions(), meterRegistry);
+    }
+
+    /**
+     * Keeps the Redis hit/miss statistics published now that the caches are wrapped.
+     */
+    @Bean
+    public CacheMeterBinderProvider<ResilientCache> resilientCacheMeterBinderProvider() {
+        return (cache, tags) -> cache.getDelegate() instanceof RedisCache redisCache
+            ? new RedisCacheMetrics(redisCache, tags)
+            : null;
+    }
+
+    private static RedisSerializationContext.SerializationPair<Object> valueSerializationPair(UserCacheProperties.Codec codec) {
+        return switch (codec) {
+            case JSON -> RedisSerializationContext.SerializationPair.fromSerializer(
+                new GenericJackson2JsonRedisSerializer());
+            case BINARY -> RedisSerializationContext.SerializationPair.fromSerializer(
+                new CompactUserRedisSerializer(new GenericJackson2JsonRedisSerializer()));
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.xeppelin.userservice.infrastructure.config;
+
+import com.xeppelin.userservice.infrastructure.config.properties.UserPurgeProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} jobs on Spring Boot's scheduler. Its pool is sized through
+ * {@code spring.task.scheduling.pool.size} to one thread per job, so that a purge run pausing between
+ * its batches never delays the outbox relay, the replica health checks or the hot key tracking.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(UserPurgeProperties.class)
+public class SchedulingConfiguration {}
@@ -0,0 +1,53 @@
+package com.xeppelin.userservice.infrastructure.config.properties;
+
+import com.zaxxer.hikari.HikariConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replicas that serve read-only transactions, bound from the
+ * {@code xeppelin.datasource.read-replicas} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "xeppelin.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Replication lag beyond which a replica stops receiving reads until it catches up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Query timeout of a health check; a replica that does not answer in time is considered down.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Pool settings of this replica, with the same keys as {@code spring.datasource.hikari}.
+         */
+        private HikariConfig hikari = new HikariConfig();
+    }
+}
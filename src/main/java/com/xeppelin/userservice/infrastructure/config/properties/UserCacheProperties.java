@@ -0,0 +1,188 @@
+package com.xeppelin.userservice.infrastructure.config.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.lang.Nullable;
+
+/**
+ * Tuning knobs for the user caches, bound from the {@code xeppelin.cache} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "xeppelin.cache")
+public class UserCacheProperties {
+
+    private NearCache nearCache = new NearCache();
+
+    private SingleFlight singleFlight = new SingleFlight();
+
+    private RefreshAhead refreshAhead = new RefreshAhead();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private HotKeys hotKeys = new HotKeys();
+
+    /**
+     * Per-cache settings keyed by cache name; caches without an entry use the defaults.
+     */
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    /**
+     * Resolves the time-to-live of a cache, falling back to the given default when the cache
+     * has no specific value.
+     */
+    @Nullable
+    public Duration timeToLiveFor(String cacheName, @Nullable Duration defaultTimeToLive) {
+        var spec = caches.get(cacheName);
+        return spec != null && spec.getTimeToLive() != null ? spec.getTimeToLive() : defaultTimeToLive;
+    }
+
+    /**
+     * In-process L1 tier kept in front of the Redis caches.
+     */
+    @Getter
+    @Setter
+    public static class NearCache {
+
+        private boolean enabled = false;
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofSeconds(30);
+
+        private String invalidationChannel = "user-service:cache-invalidation";
+    }
+
+    /**
+     * Coalescing of concurrent cache-miss loads for the same key.
+     */
+    @Getter
+    @Setter
+    public static class SingleFlight {
+
+        /**
+         * How long a caller waits for an in-flight load before loading on its own.
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Background reload of entries that are read close to their expiry.
+     */
+    @Getter
+    @Setter
+    public static class RefreshAhead {
+
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the time-to-live left below which a hit triggers a reload.
+         */
+        private double threshold = 0.2;
+
+        /**
+         * Minimum delay between two expiry checks of the same key on this node.
+         */
+        private Duration checkInterval = Duration.ofMinutes(1);
+
+        private long maximumTrackedKeys = 100_000;
+
+        private int poolSize = 2;
+
+        private int queueCapacity = 1_000;
+    }
+
+    /**
+     * Fail-open behaviour when Redis is down or slow.
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * Consecutive failed or slow calls after which the cache is bypassed.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * How long the cache is bypassed before a single probe call is attempted.
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Calls slower than this count as failures even when they succeed.
+         */
+        private Duration slowCallThreshold = Duration.ofMillis(100);
+
+        /**
+         * Keys whose writes were dropped during an outage and are evicted on recovery; beyond
+         * this number the affected cache is cleared instead.
+         */
+        private int maxPendingEvictions = 10_000;
+    }
+
+    /**
+     * Tracking of the most requested user ids and warm-up of the {@code User} cache from them.
+     */
+    @Getter
+    @Setter
+    public static class HotKeys {
+
+        private boolean enabled = false;
+
+        /**
+         * Number of counters in the heavy-hitters sketch; bounds memory regardless of traffic.
+         */
+        private int sketchCapacity = 2_000;
+
+        /**
+         * Number of ids persisted and pre-loaded on startup.
+         */
+        private int size = 500;
+
+        private Duration persistInterval = Duration.ofMinutes(5);
+
+        /**
+         * Persisted ids older than this are ignored and deleted.
+         */
+        private Duration retention = Duration.ofDays(1);
+
+        private int warmUpBatchSize = 100;
+
+        /**
+         * Upper bound on the time startup is delayed by the warm-up.
+         */
+        private Duration warmUpTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+
+        private Codec codec = Codec.JSON;
+
+        /**
+         * Upper bound of the entry lifetime; defaults to {@code spring.cache.redis.time-to-live}.
+         */
+        @Nullable
+        private Duration timeToLive;
+
+        /**
+         * Fraction of the time-to-live randomly cut from each entry to spread expirations, at least 0
+         * and below 1.
+         */
+        private double ttlJitter = 0.1;
+    }
+
+    /**
+     * Value encoding used for a Redis cache.
+     */
+    public enum Codec {
+        JSON,
+        BINARY
+    }
+}
@@ -0,0 +1,41 @@
+package com.xeppelin.userservice.infrastructure.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Server-sent event streams of the change feed, bound from the {@code xeppelin.changes.stream} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "xeppelin.changes.stream")
+public class UserChangeStreamProperties {
+
+    /**
+     * Delay between two reads of the feed for one stream; a read without changes sends a heartbeat.
+     */
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Lifetime of a stream, after which the client reconnects from the id of the last event received.
+     */
+    private Duration timeout = Duration.ofMinutes(5);
+
+    /**
+     * Changes per event.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Events sent per read at most, so that a stream catching up on a large backlog leaves the
+     * threads to the other streams in between.
+     */
+    private int maxBatchesPerPoll = 10;
+
+    /**
+     * Threads reading the feed for all the streams of this node.
+     */
+    private int poolSize = 2;
+}
@@ -0,0 +1,50 @@
+package com.xeppelin.userservice.infrastructure.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Relay of user changes from the outbox table to other services, bound from the
+ * {@code xeppelin.outbox} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "xeppelin.outbox")
+public class UserOutboxProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay between the end of a relay run and the start of the next one.
+     */
+    private Duration interval = Duration.ofSeconds(1);
+
+    /**
+     * Changes published per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Batches per run at most, so that a large backlog does not hold the scheduler thread.
+     */
+    private int maxBatchesPerRun = 20;
+
+    private Stream stream = new Stream();
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        /**
+         * Redis stream the changes are appended to.
+         */
+        private String key = "user-service:user-changes";
+
+        /**
+         * Entries kept in the stream, approximately: older ones are trimmed as new ones are added.
+         */
+        private long maxLength = 1_000_000;
+    }
+}
@@ -0,0 +1,43 @@
+package com.xeppelin.userservice.infrastructure.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Background removal of deleted users, bound from the {@code xeppelin.purge} prefix.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "xeppelin.purge")
+public class UserPurgeProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay between the end of a purge run and the start of the next one.
+     */
+    private Duration interval = Duration.ofMinutes(1);
+
+    /**
+     * How long deleted users are kept before removal. The change feed reports a deletion only while
+     * the user is kept, so it rejects the cursors older than this and their clients must resynchronize.
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * Users removed per transaction; small batches keep row locks short.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause between two batches of a run, leaving the database to regular traffic.
+     */
+    private Duration pause = Duration.ofMillis(200);
+
+    /**
+     * Batches per run at most, so that a large backlog is spread over several runs.
+     */
+    private int maxBatchesPerRun = 100;
+}
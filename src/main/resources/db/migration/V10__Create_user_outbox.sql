@@ -0,0 +1,15 @@
+-- Changes to users, appended in the transaction that makes them and relayed to other services by
+-- UserOutboxRelay, which deletes each row once published. No foreign key: the events of a user
+-- outlive its purge.
+CREATE TABLE user_outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY,
+    user_id UUID NOT NULL,
+    change_type CHARACTER VARYING NOT NULL,
+    version INTEGER,
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT user_outbox_pkey PRIMARY KEY (id)
+);
+
+-- Every row is inserted then deleted shortly after: vacuum on a fixed number of dead rows rather than
+-- on a fraction of a table that is nearly always empty, so the relay does not scan a growing heap.
+ALTER TABLE user_outbox SET (autovacuum_vacuum_scale_factor = 0.0, autovacuum_vacuum_threshold = 1000);
@@ -0,0 +1,20 @@
+-- Serves the change feed, which reads users modified after a (last_modified_date, id) cursor. Not
+-- partial: deleting a user stamps last_modified_date, and the feed reports tombstones as deletions
+-- until the purge removes them.
+CREATE INDEX idx_users_last_modified_date_id ON users(last_modified_date, id);
+
+-- A change to an address alone leaves its user's row untouched; stamp the user too so that the feed,
+-- which only looks at users, sees it. Inserts are left out: an address is created with its user.
+CREATE FUNCTION touch_user_of_address() RETURNS trigger AS $$
+BEGIN
+    UPDATE users SET last_modified_date = NEW.last_modified_date
+    WHERE id = NEW.user_id AND last_modified_date < NEW.last_modified_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_addresses_touch_user
+    AFTER UPDATE ON addresses
+    FOR EACH ROW
+    WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION touch_user_of_address();
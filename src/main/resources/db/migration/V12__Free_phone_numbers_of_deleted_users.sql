@@ -0,0 +1,11 @@
+-- A deleted user's phone number is free again right away, as its email is since V9. An index cannot
+-- look at the users table, so addresses carry their user's deletion time, stamped together with it.
+ALTER TABLE addresses ADD COLUMN deleted_at TIMESTAMP;
+
+UPDATE addresses a SET deleted_at = u.deleted_at
+FROM users u
+WHERE u.id = a.user_id AND u.deleted_at IS NOT NULL;
+
+DROP INDEX uk_addresses_phone_number_normalized;
+CREATE UNIQUE INDEX uk_addresses_phone_number_normalized ON addresses(phone_number_normalized)
+    WHERE phone_number_normalized IS NOT NULL AND deleted_at IS NULL;
@@ -0,0 +1,4 @@
+-- Backs the listing by role alone: idx_users_role_status_id has status between role and id, so
+-- WHERE role = ? ORDER BY id had to read every user of the role and sort them to return one page.
+-- On (role, id) a page is a range scan that stops after its rows.
+CREATE INDEX idx_users_role_id ON users(role, id) WHERE deleted_at IS NULL;
@@ -0,0 +1,10 @@
+-- Most requested user ids, persisted by each node and used to warm the User cache on startup.
+-- No foreign key: a row for a deleted user is simply skipped during warm-up.
+CREATE TABLE user_hot_keys (
+    user_id UUID NOT NULL,
+    hits BIGINT NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT user_hot_keys_pkey PRIMARY KEY (user_id)
+);
+
+CREATE INDEX idx_user_hot_keys_hits ON user_hot_keys(hits DESC);
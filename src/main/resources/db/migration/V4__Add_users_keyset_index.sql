@@ -0,0 +1,2 @@
+-- Backs keyset pagination of the user listing: WHERE (created_date, id) > (?, ?) ORDER BY created_date, id.
+CREATE INDEX idx_users_created_date_id ON users(created_date, id);
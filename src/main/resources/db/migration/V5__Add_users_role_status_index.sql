@@ -0,0 +1,6 @@
+-- Backs the role/status filtered listing: WHERE role = ? [AND status = ?] ORDER BY id is an index range
+-- scan, and its count is answered from the index alone. It also serves every lookup on role, so the
+-- single-column role index is redundant.
+CREATE INDEX idx_users_role_status_id ON users(role, status, id);
+
+DROP INDEX idx_users_role;
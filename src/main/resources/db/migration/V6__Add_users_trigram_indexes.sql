@@ -0,0 +1,6 @@
+-- Backs the fuzzy user search: WHERE ? <% name OR ? <% email is answered by a BitmapOr of the two
+-- trigram indexes, however many users there are.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING gin (email gin_trgm_ops);
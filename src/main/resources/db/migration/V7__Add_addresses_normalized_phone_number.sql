@@ -0,0 +1,11 @@
+-- Backs the phone number lookup of the login path. Phone numbers are stored as typed, so lookups go
+-- through a normalized copy: '+' followed by the digits only, the form of Address.normalizePhoneNumber.
+-- The database computes it on every write, bulk loads and existing rows included.
+ALTER TABLE addresses
+    ADD COLUMN phone_number_normalized VARCHAR(20)
+        GENERATED ALWAYS AS ('+' || regexp_replace(phone_number, '[^0-9]', '', 'g')) STORED;
+
+-- One user per phone number, so a lookup is a single index probe. Addresses without a phone number
+-- are left out of the index.
+CREATE UNIQUE INDEX uk_addresses_phone_number_normalized ON addresses(phone_number_normalized)
+    WHERE phone_number_normalized IS NOT NULL;
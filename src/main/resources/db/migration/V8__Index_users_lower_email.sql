@@ -0,0 +1,11 @@
+-- Emails are case-insensitive: they are stored lower-cased, and uniqueness and lookups go through
+-- lower(email). Fails if two existing users differ only by the case of their email; merge them first.
+UPDATE users SET email = lower(email) WHERE email <> lower(email);
+
+-- The unique index on lower(email) replaces both the case-sensitive unique constraint and the plain
+-- email index, which duplicated it and cost an extra index write on every insert.
+CREATE UNIQUE INDEX uk_users_email_lower ON users(lower(email));
+
+ALTER TABLE users DROP CONSTRAINT uk_users_email;
+
+DROP INDEX idx_users_email;
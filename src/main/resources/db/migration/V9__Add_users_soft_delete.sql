@@ -0,0 +1,23 @@
+-- Deleting a user only tombstones it; the row and its address are removed later, in small batches,
+-- by the purge job. Every read filters on deleted_at IS NULL, so the read-path indexes are rebuilt as
+-- partial indexes over live users only: tombstones cost them nothing and never surface in lookups.
+ALTER TABLE users ADD COLUMN deleted_at TIMESTAMP;
+
+-- A deleted user's email is free again right away.
+DROP INDEX uk_users_email_lower;
+CREATE UNIQUE INDEX uk_users_email_lower ON users(lower(email)) WHERE deleted_at IS NULL;
+
+DROP INDEX idx_users_created_date_id;
+CREATE INDEX idx_users_created_date_id ON users(created_date, id) WHERE deleted_at IS NULL;
+
+DROP INDEX idx_users_role_status_id;
+CREATE INDEX idx_users_role_status_id ON users(role, status, id) WHERE deleted_at IS NULL;
+
+DROP INDEX idx_users_name_trgm;
+CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops) WHERE deleted_at IS NULL;
+
+DROP INDEX idx_users_email_trgm;
+CREATE INDEX idx_users_email_trgm ON users USING gin (email gin_trgm_ops) WHERE deleted_at IS NULL;
+
+-- Lets the purge job pick the oldest tombstones without scanning live users.
+CREATE INDEX idx_users_deleted_at ON users(deleted_at) WHERE deleted_at IS NOT NULL;
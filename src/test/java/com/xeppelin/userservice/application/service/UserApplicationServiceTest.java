@@ -0,0 +1,110 @@
+package com.xeppelin.userservice.application.service;
+
+import com.xeppelin.userservice.application.port.output.UserOutbox;
+import com.xeppelin.userservice.domain.exception.NotFoundException;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.service.UserDomainService;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.HotKeyTracker;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.RefreshAheadScheduler;
+import com.xeppelin.userservice.infrastructure.adapter.output.cache.UserCacheAdapter;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserApplicationServiceTest {
+
+    private static final String USER_CACHE = "User";
+
+    private static final String PHONE_INDEX_CACHE = "UserByPhone";
+
+    private UserDomainService userDomainService;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private UserApplicationService userApplicationService;
+
+    private User staleUser;
+
+    private User freshUser;
+
+    @BeforeEach
+    void setUp() {
+        userDomainService = mock(UserDomainService.class);
+        cacheManager = new ConcurrentMapCacheManager();
+        var userCache = new UserCacheAdapter(cacheManager, mock(RefreshAheadScheduler.class),
+            mock(HotKeyTracker.class), new SimpleMeterRegistry(), new UserCacheProperties());
+        userApplicationService = new UserApplicationService(userDomainService, userCache,
+            mock(UserOutbox.class), new RoutingTransactionManager());
+        staleUser = TestDataFactory.createValidUser().toBuilder().version(1).build();
+        freshUser = staleUser.toBuilder().name("Renamed User").version(2).build();
+    }
+
+    @Test
+    void getUserById_ShouldCacheCurrentVersionAfterUpdateWhenReplicaLags() {
+        // Arrange
+        // Read-only transactions go to a replica that has not seen the update yet
+        when(userDomainService.getUserById(staleUser.getId())).thenAnswer(invocation ->
+            TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? staleUser : freshUser);
+        when(userDomainService.updateUser(eq(staleUser.getId()), any(User.class))).thenReturn(freshUser);
+        userApplicationService.updateUser(staleUser.getId(), freshUser);
+        cacheManager.getCache(USER_CACHE).evict(staleUser.getId());
+
+        // Act
+        var result = userApplicationService.getUserById(staleUser.getId());
+
+        // Assert
+        assertEquals(2, result.getVersion());
+        var cached = (User) cacheManager.getCache(USER_CACHE).get(staleUser.getId()).get();
+        assertEquals(2, cached.getVersion());
+    }
+
+    @Test
+    void getUserByPhoneNumber_ShouldNotLookUpNumberWithoutDigits() {
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> userApplicationService.getUserByPhoneNumber("abc"));
+        assertThrows(NotFoundException.class, () -> userApplicationService.getUserByPhoneNumber(""));
+        verifyNoInteractions(userDomainService);
+        assertNull(cacheManager.getCache(PHONE_INDEX_CACHE).get("+"));
+    }
+
+    /**
+     * Exposes the read-only flag of each transaction the way a real transaction manager does, which is
+     * what the replica routing looks at.
+     */
+    private static class RoutingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.xeppelin.userservice.domain.service.impl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UuidV7GeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:30:00.123Z");
+
+    @Test
+    void nextId_ShouldEncodeVersionVariantAndTimestamp() {
+        // Arrange
+        var generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC), new Random(42));
+
+        // Act
+        var id = generator.nextId();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void nextId_ShouldKeepIncreasingWithinMillisecondAndWhenClockGoesBack() {
+        // Arrange
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW.toEpochMilli(), NOW.toEpochMilli(), NOW.toEpochMilli() - 1_000, NOW.toEpochMilli() + 1);
+        var generator = new UuidV7Generator(clock, new Random(42));
+
+        // Act
+        var ids = List.of(generator.nextId(), generator.nextId(), generator.nextId(), generator.nextId());
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i).getMostSignificantBits() > ids.get(i - 1).getMostSignificantBits());
+        }
+        assertEquals(NOW.toEpochMilli() + 1, ids.get(3).getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void nextId_ShouldNeverRepeatAcrossThreads() throws Exception {
+        // Arrange
+        var generator = new UuidV7Generator();
+        var ids = ConcurrentHashMap.<UUID>newKeySet();
+        var threads = 8;
+        var idsPerThread = 20_000;
+
+        // Act
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var futures = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> generateIncreasing(generator, idsPerThread, ids)));
+            }
+            // Assert
+            for (var future : futures) {
+                assertTrue(future.get(), "ids of a thread must be increasing");
+            }
+        }
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    private static boolean generateIncreasing(UuidV7Generator generator, int count, Set<UUID> ids) {
+        var previous = Long.MIN_VALUE;
+        var increasing = true;
+        for (int i = 0; i < count; i++) {
+            var id = generator.nextId();
+            increasing &= id.getMostSignificantBits() > previous;
+            previous = id.getMostSignificantBits();
+            ids.add(id);
+        }
+        return increasing;
+    }
+}
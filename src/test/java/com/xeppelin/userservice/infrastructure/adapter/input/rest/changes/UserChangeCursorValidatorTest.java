@@ -0,0 +1,62 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.changes;
+
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.ExpiredCursorException;
+import com.xeppelin.userservice.infrastructure.config.properties.UserPurgeProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserChangeCursorValidatorTest {
+
+    private UserPurgeProperties purgeSettings;
+
+    private UserChangeCursorValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        purgeSettings = new UserPurgeProperties();
+        purgeSettings.setRetention(Duration.ofDays(1));
+        validator = new UserChangeCursorValidator(purgeSettings);
+    }
+
+    @Test
+    void validate_ShouldRejectCursorOlderThanRetention() {
+        // Arrange
+        var cursor = new UserChangeCursor(Instant.now().minus(Duration.ofDays(2)), UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(ExpiredCursorException.class, () -> validator.validate(cursor));
+    }
+
+    @Test
+    void validate_ShouldAcceptCursorWithinRetention() {
+        // Arrange
+        var cursor = new UserChangeCursor(Instant.now().minus(Duration.ofHours(23)), UUID.randomUUID());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> validator.validate(cursor));
+    }
+
+    @Test
+    void validate_ShouldAcceptAnyCursorWhenPurgeIsDisabled() {
+        // Arrange
+        purgeSettings.setEnabled(false);
+        var cursor = new UserChangeCursor(Instant.EPOCH, UUID.randomUUID());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> validator.validate(cursor));
+    }
+
+    @Test
+    void validate_ShouldAcceptReadFromStart() {
+        // Act & Assert
+        assertDoesNotThrow(() -> validator.validate(null));
+    }
+}
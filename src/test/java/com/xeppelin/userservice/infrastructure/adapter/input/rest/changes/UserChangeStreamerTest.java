@@ -0,0 +1,118 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.rest.changes;
+
+import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.domain.model.UserChange;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserChangeFeedResponse;
+import com.xeppelin.userservice.infrastructure.config.properties.UserChangeStreamProperties;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeStreamerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private UserManagementUseCase userManagementUseCase;
+
+    @Mock
+    private UserControllerMapper userControllerMapper;
+
+    private UserChangeStreamer userChangeStreamer;
+
+    @BeforeEach
+    void setUp() {
+        var settings = new UserChangeStreamProperties();
+        settings.setBatchSize(BATCH_SIZE);
+        settings.setMaxBatchesPerPoll(3);
+        userChangeStreamer = new UserChangeStreamer(userManagementUseCase, userControllerMapper, settings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userChangeStreamer.destroy();
+    }
+
+    @Test
+    void poll_ShouldSendSlicesUntilCaughtUpThenContinueFromLastCursor() {
+        // Arrange
+        var start = cursor(1);
+        var first = slice(cursor(2), true);
+        var second = slice(cursor(3), false);
+        when(userManagementUseCase.getUserChanges(start, BATCH_SIZE)).thenReturn(first);
+        when(userManagementUseCase.getUserChanges(cursor(2), BATCH_SIZE)).thenReturn(second);
+        when(userManagementUseCase.getUserChanges(cursor(3), BATCH_SIZE)).thenReturn(new UserChangeSlice(List.of(), cursor(3), false));
+        when(userControllerMapper.fromUserChangeSliceToUserChangeFeedResponse(any())).thenReturn(new UserChangeFeedResponse());
+        var stream = userChangeStreamer.new Stream(new SseEmitter(), start);
+
+        // Act
+        stream.poll();
+        stream.poll();
+
+        // Assert
+        verify(userControllerMapper).fromUserChangeSliceToUserChangeFeedResponse(first);
+        verify(userControllerMapper).fromUserChangeSliceToUserChangeFeedResponse(second);
+        verify(userManagementUseCase, times(1)).getUserChanges(cursor(3), BATCH_SIZE);
+    }
+
+    @Test
+    void poll_ShouldContinueFromCaughtUpCursorAfterReadWithoutChanges() {
+        // Arrange
+        var start = cursor(1);
+        when(userManagementUseCase.getUserChanges(start, BATCH_SIZE)).thenReturn(new UserChangeSlice(List.of(), cursor(5), false));
+        when(userManagementUseCase.getUserChanges(cursor(5), BATCH_SIZE)).thenReturn(new UserChangeSlice(List.of(), cursor(6), false));
+        var stream = userChangeStreamer.new Stream(new SseEmitter(), start);
+
+        // Act
+        stream.poll();
+        stream.poll();
+
+        // Assert
+        verify(userManagementUseCase, times(1)).getUserChanges(start, BATCH_SIZE);
+        verify(userManagementUseCase, times(1)).getUserChanges(cursor(5), BATCH_SIZE);
+    }
+
+    @Test
+    void poll_ShouldRetryFromSameCursorAfterDatabaseFailure() {
+        // Arrange
+        var start = cursor(1);
+        when(userManagementUseCase.getUserChanges(start, BATCH_SIZE))
+            .thenThrow(new QueryTimeoutException("timeout"))
+            .thenReturn(slice(cursor(2), false));
+        when(userControllerMapper.fromUserChangeSliceToUserChangeFeedResponse(any())).thenReturn(new UserChangeFeedResponse());
+        var stream = userChangeStreamer.new Stream(new SseEmitter(), start);
+
+        // Act
+        stream.poll();
+        stream.poll();
+
+        // Assert
+        verify(userManagementUseCase, times(2)).getUserChanges(start, BATCH_SIZE);
+    }
+
+    private static UserChangeCursor cursor(int second) {
+        return new UserChangeCursor(Instant.ofEpochSecond(second), new UUID(0, second));
+    }
+
+    private static UserChangeSlice slice(UserChangeCursor next, boolean hasMore) {
+        return new UserChangeSlice(List.of(new UserChange(next.id(), next.modifiedDate(), null)), next, hasMore);
+    }
+}
@@ -1,31 +1,74 @@
 package com.xeppelin.userservice.infrastructure.adapter.input.rest.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.domain.exception.UserDomainException;
 import com.xeppelin.userservice.domain.model.Address;
 import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChange;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserChangeSlice;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.domain.model.UserCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserImportResult;
+import com.xeppelin.userservice.domain.model.UserPatch;
 import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.domain.model.UserSearchSlice;
+import com.xeppelin.userservice.domain.model.UserSlice;
 import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.IUserController;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.changes.UserChangeCursorValidator;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.changes.UserChangeStreamer;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.InvalidCursorException;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.exception.InvalidImportException;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.export.UserExportFormat;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserChangeCursorCodec;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserControllerMapper;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserCursorCodec;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.mapper.UserSearchCursorCodec;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserBatchCreateRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserBatchGetRequest;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserPatchRequest;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.AddressResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.PagedResponse;
+import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserChangeFeedResponse;
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.response.UserResponse;
+import java.time.Instant;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -40,6 +83,15 @@ class UserControllerImplTest {
     @Mock
     private UserControllerMapper userControllerMapper;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private UserChangeStreamer userChangeStreamer;
+
+    @Mock
+    private UserChangeCursorValidator userChangeCursorValidator;
+
     @InjectMocks
     private UserControllerImpl controller;
 
@@ -134,6 +186,176 @@ class UserControllerImplTest {
         verify(userManagementUseCase).createUser(user);
     }
 
+    @Test
+    void createUsers_ShouldReportPerUserResults() {
+        // Arrange
+        var duplicate = User.builder().email("john.doe@example.com").build();
+        when(userControllerMapper.fromUserRequestToUser(userRequest)).thenReturn(user, duplicate);
+        when(userManagementUseCase.createUsers(List.of(user, duplicate))).thenReturn(List.of(
+            UserCreationResult.created(0, user),
+            UserCreationResult.rejected(1, "User with email john.doe@example.com appears more than once in the batch")
+        ));
+
+        // Act
+        var result = controller.createUsers(new UserBatchCreateRequest(List.of(userRequest, userRequest)));
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getRejected());
+        assertEquals(userId.toString(), result.getResults().get(0).getId());
+        assertNotNull(result.getResults().get(1).getError());
+    }
+
+    @Test
+    void scrollUsers_ShouldReturnCursorOfNextSlice() {
+        // Arrange
+        var next = new UserCursor(Instant.parse("2025-01-15T10:30:00.123456Z"), userId);
+        when(userManagementUseCase.getUsersAfter(null, 1)).thenReturn(new UserSlice(List.of(user), next));
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+
+        // Act
+        var result = controller.scrollUsers(null, 1);
+
+        // Assert
+        assertEquals(List.of(userResponse), result.getContent());
+        assertEquals(next, UserCursorCodec.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void scrollUsers_ShouldResumeFromCursorAndCapSize() {
+        // Arrange
+        var cursor = new UserCursor(Instant.parse("2025-01-15T10:30:00Z"), userId);
+        when(userManagementUseCase.getUsersAfter(cursor, IUserController.MAX_SCROLL_SIZE)).thenReturn(new UserSlice(List.of(), null));
+
+        // Act
+        var result = controller.scrollUsers(UserCursorCodec.encode(cursor), 1_000_000);
+
+        // Assert
+        assertEquals(List.of(), result.getContent());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void scrollUsers_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> controller.scrollUsers("not-a-cursor", 10));
+    }
+
+    @Test
+    void searchUsers_ShouldReturnMatchesAndCursorOfNextSlice() {
+        // Arrange
+        var next = new UserSearchCursor(0.8333333f, userId);
+        when(userManagementUseCase.searchUsers("jon smi", null, 1)).thenReturn(new UserSearchSlice(List.of(user), next));
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+
+        // Act
+        var result = controller.searchUsers("jon smi", null, 1);
+
+        // Assert
+        assertEquals(List.of(userResponse), result.getContent());
+        assertEquals(next, UserSearchCursorCodec.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void searchUsers_ShouldResumeFromCursorAndCapSize() {
+        // Arrange
+        var cursor = new UserSearchCursor(0.5f, userId);
+        when(userManagementUseCase.searchUsers("smith", cursor, IUserController.MAX_SEARCH_SIZE))
+            .thenReturn(new UserSearchSlice(List.of(), null));
+
+        // Act
+        var result = controller.searchUsers("smith", UserSearchCursorCodec.encode(cursor), 1_000_000);
+
+        // Assert
+        assertEquals(List.of(), result.getContent());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void searchUsers_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> controller.searchUsers("smith", UserCursorCodec.encode(
+            new UserCursor(Instant.parse("2025-01-15T10:30:00Z"), userId)), 10));
+    }
+
+    @Test
+    void getUserChanges_ShouldResumeFromCursorAndCapSize() {
+        // Arrange
+        var since = new UserChangeCursor(Instant.parse("2025-01-15T10:30:00Z"), userId);
+        var slice = new UserChangeSlice(List.of(new UserChange(userId, Instant.parse("2025-01-15T10:31:00Z"), user)),
+            new UserChangeCursor(Instant.parse("2025-01-15T10:31:00Z"), userId), false);
+        var response = UserChangeFeedResponse.builder().build();
+        when(userManagementUseCase.getUserChanges(since, IUserController.MAX_CHANGES_SIZE)).thenReturn(slice);
+        when(userControllerMapper.fromUserChangeSliceToUserChangeFeedResponse(slice)).thenReturn(response);
+
+        // Act
+        var result = controller.getUserChanges(UserChangeCursorCodec.encode(since), 1_000_000);
+
+        // Assert
+        assertEquals(response, result);
+    }
+
+    @Test
+    void getUserChanges_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> controller.getUserChanges("not-a-cursor", 10));
+    }
+
+    @Test
+    void streamUserChanges_ShouldResumeFromLastEventIdRatherThanSince() {
+        // Arrange
+        var since = new UserChangeCursor(Instant.parse("2025-01-15T10:30:00Z"), userId);
+        var lastEvent = new UserChangeCursor(Instant.parse("2025-01-15T10:45:00Z"), userId);
+        var emitter = new SseEmitter();
+        when(userChangeStreamer.stream(lastEvent)).thenReturn(emitter);
+
+        // Act
+        var result = controller.streamUserChanges(UserChangeCursorCodec.encode(since), UserChangeCursorCodec.encode(lastEvent));
+
+        // Assert
+        assertEquals(emitter, result);
+    }
+
+    @Test
+    void importUsers_ShouldReadCsvUsersAndReportRejections() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest();
+        request.setContentType("text/csv");
+        request.setContent(("id,name,email,role,status,line1,line2,city,state,postal_code,country,phone_number\r\n"
+            + ",\"Doe, John\",john.doe@example.com,attendee,,123 Main St,,New York,NY,10001,USA,+1-555-123-4567\r\n"
+            + ",Jane Doe,jane.doe@example.com,PILOT,,,,,,,,\r\n").getBytes(StandardCharsets.UTF_8));
+        var expectedRequest = new UserRequest("Doe, John", "john.doe@example.com", UserRole.ATTENDEE, null,
+            new AddressRequest("123 Main St", null, "New York", "NY", "10001", "USA", "+1-555-123-4567"));
+        when(userControllerMapper.fromUserRequestToUser(expectedRequest)).thenReturn(user);
+        when(userManagementUseCase.importUsers(any())).thenAnswer(invocation -> {
+            Iterator<User> users = invocation.getArgument(0);
+            assertEquals(user, users.next());
+            assertThrows(UserDomainException.class, users::next);
+            assertFalse(users.hasNext());
+            return new UserImportResult(1, 1, List.of(UserCreationResult.rejected(1, "Invalid UserRole value 'PILOT'")));
+        });
+
+        // Act
+        var result = controller.importUsers(request);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(1, result.getRejections().get(0).getIndex());
+        assertEquals("Invalid UserRole value 'PILOT'", result.getRejections().get(0).getError());
+    }
+
+    @Test
+    void importUsers_ShouldRejectCsvWithoutRequiredColumn() {
+        // Arrange
+        var request = new MockHttpServletRequest();
+        request.setContentType("text/csv");
+        request.setContent("name,role\nJohn Doe,ATTENDEE\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThrows(InvalidImportException.class, () -> controller.importUsers(request));
+    }
+
     @Test
     void getUserById_ShouldReturnUser() {
         // Arrange
@@ -152,6 +374,23 @@ class UserControllerImplTest {
         assertEquals(userResponse.getStatus(), result.getStatus());
     }
 
+    @Test
+    void getUsersByIds_ShouldReturnFoundUsersAndReportUnknownIds() {
+        // Arrange
+        var unknownId = UUID.randomUUID();
+        var ids = List.of(unknownId, userId, userId);
+        when(userManagementUseCase.getUsersByIds(ids)).thenReturn(List.of(user));
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+
+        // Act
+        var result = controller.getUsersByIds(new UserBatchGetRequest(ids));
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(List.of(userResponse), result.getUsers());
+        assertEquals(List.of(unknownId.toString()), result.getNotFound());
+    }
+
     @Test
     void getAllUsers_ShouldReturnPagedResponse() {
         // Arrange
@@ -185,6 +424,114 @@ class UserControllerImplTest {
         verify(userManagementUseCase).getAllUsers(expectedPageRequest);
     }
 
+    @Test
+    void getUsersByRole_ShouldReturnPagedResponse() {
+        // Arrange
+        org.springdoc.core.converters.models.Pageable springdocPageable =
+            mock(org.springdoc.core.converters.models.Pageable.class);
+        when(springdocPageable.getPage()).thenReturn(0);
+        when(springdocPageable.getSize()).thenReturn(10);
+
+        PageRequest expectedPageRequest = PageRequest.of(0, 10);
+        when(userManagementUseCase.getUsersByRole(UserRole.ORGANIZER, UserStatus.ACTIVE, expectedPageRequest))
+            .thenReturn(new PageImpl<>(List.of(user), expectedPageRequest, 1));
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+
+        // Act
+        PagedResponse<UserResponse> result = controller.getUsersByRole(UserRole.ORGANIZER, UserStatus.ACTIVE, springdocPageable);
+
+        // Assert
+        assertEquals(List.of(userResponse), result.getContent());
+        assertEquals(1, result.getMetadata().getTotalElements());
+        assertEquals(10, result.getMetadata().getSize());
+    }
+
+    @Test
+    void getUserSliceByRole_ShouldReturnSliceWithoutTotals() {
+        // Arrange
+        org.springdoc.core.converters.models.Pageable springdocPageable =
+            mock(org.springdoc.core.converters.models.Pageable.class);
+        when(springdocPageable.getPage()).thenReturn(2);
+        when(springdocPageable.getSize()).thenReturn(1);
+
+        PageRequest expectedPageRequest = PageRequest.of(2, 1);
+        when(userManagementUseCase.getUserSliceByRole(UserRole.ORGANIZER, null, expectedPageRequest))
+            .thenReturn(new SliceImpl<>(List.of(user), expectedPageRequest, true));
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+
+        // Act
+        var result = controller.getUserSliceByRole(UserRole.ORGANIZER, null, springdocPageable);
+
+        // Assert
+        assertEquals(List.of(userResponse), result.getContent());
+        assertEquals(2, result.getMetadata().getNumber());
+        assertEquals(1, result.getMetadata().getSize());
+        assertTrue(result.getMetadata().isHasNext());
+    }
+
+    @Test
+    void exportUsers_ShouldWriteOneJsonUserPerLine() throws Exception {
+        // Arrange
+        var filter = new UserFilter(UserRole.ATTENDEE, null, "USA");
+        when(userManagementUseCase.exportUsers(eq(filter), any())).thenAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(1);
+            consumer.accept(user);
+            consumer.accept(user);
+            return 2L;
+        });
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+        var response = new MockHttpServletResponse();
+
+        // Act
+        controller.exportUsers(UserRole.ATTENDEE, null, "USA", UserExportFormat.NDJSON, response);
+
+        // Assert
+        assertEquals(UserExportFormat.NDJSON_VALUE, response.getContentType());
+        var lines = response.getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(userResponse.getEmail(), objectMapper.readValue(lines[0], UserResponse.class).getEmail());
+    }
+
+    @Test
+    void exportUsers_ShouldWriteCsvWithHeaderAndQuotedFields() throws Exception {
+        // Arrange
+        userResponse.setName("Doe, \"Johnny\"");
+        when(userManagementUseCase.exportUsers(eq(new UserFilter(null, null, null)), any()))
+            .thenAnswer(invocation -> {
+                Consumer<User> consumer = invocation.getArgument(1);
+                consumer.accept(user);
+                return 1L;
+            });
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+        var response = new MockHttpServletResponse();
+
+        // Act
+        controller.exportUsers(null, null, null, UserExportFormat.CSV, response);
+
+        // Assert
+        var lines = response.getContentAsString().split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,name,email,role,status"));
+        assertEquals(userId + ",\"Doe, \"\"Johnny\"\"\",john.doe@example.com,ATTENDEE,ACTIVE,,"
+            + "123 Main St,Apt 4B,New York,NY,10001,USA,+1-555-123-4567", lines[1]);
+    }
+
+    @Test
+    void exportUsers_ShouldResetResponseWhenFailingBeforeAnythingIsSent() throws Exception {
+        // Arrange
+        when(userManagementUseCase.exportUsers(eq(new UserFilter(null, null, null)), any()))
+            .thenThrow(new QueryTimeoutException("timeout"));
+        var response = new MockHttpServletResponse();
+
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, () ->
+            controller.exportUsers(null, null, null, UserExportFormat.CSV, response));
+        assertFalse(response.isCommitted());
+        assertNull(response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals("", response.getContentAsString());
+    }
+
     @Test
     void updateUser_ShouldReturnUpdatedUser() {
         // Arrange
@@ -205,6 +552,23 @@ class UserControllerImplTest {
         verify(userManagementUseCase).updateUser(userId, user);
     }
 
+    @Test
+    void patchUser_ShouldReturnPatchedUser() {
+        // Arrange
+        var patchRequest = new UserPatchRequest(null, null, null, UserStatus.SUSPENDED, 3);
+        var patch = new UserPatch(null, null, null, UserStatus.SUSPENDED, 3);
+        when(userControllerMapper.fromUserPatchRequestToUserPatch(patchRequest)).thenReturn(patch);
+        when(userManagementUseCase.patchUser(userId, patch)).thenReturn(user);
+        when(userControllerMapper.fromUserToUserResponse(user)).thenReturn(userResponse);
+
+        // Act
+        UserResponse result = controller.patchUser(userId.toString(), patchRequest);
+
+        // Assert
+        assertEquals(userResponse, result);
+        verify(userManagementUseCase).patchUser(userId, patch);
+    }
+
     @Test
     void deleteUser_ShouldCallUserManagementUseCase() {
         // Arrange
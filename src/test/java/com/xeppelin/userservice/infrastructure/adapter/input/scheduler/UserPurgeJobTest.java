@@ -0,0 +1,106 @@
+package com.xeppelin.userservice.infrastructure.adapter.input.scheduler;
+
+import com.xeppelin.userservice.application.port.input.UserManagementUseCase;
+import com.xeppelin.userservice.infrastructure.config.properties.UserPurgeProperties;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPurgeJobTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private UserManagementUseCase userManagementUseCase;
+
+    private UserPurgeProperties settings;
+
+    private UserPurgeJob userPurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        settings = new UserPurgeProperties();
+        settings.setBatchSize(BATCH_SIZE);
+        settings.setMaxBatchesPerRun(3);
+        settings.setPause(Duration.ZERO);
+        userPurgeJob = new UserPurgeJob(userManagementUseCase, settings);
+    }
+
+    @Test
+    void purge_ShouldStopOnceBatchIsNotFull() {
+        // Arrange
+        when(userManagementUseCase.purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE, 4);
+
+        // Act
+        userPurgeJob.purge();
+
+        // Assert
+        verify(userManagementUseCase, times(2)).purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void purge_ShouldLeaveRestOfBacklogToNextRun() {
+        // Arrange
+        when(userManagementUseCase.purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE);
+
+        // Act
+        userPurgeJob.purge();
+
+        // Assert
+        verify(userManagementUseCase, times(3)).purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void purge_ShouldGiveUpRunOnDatabaseFailure() {
+        // Arrange
+        when(userManagementUseCase.purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        userPurgeJob.purge();
+
+        // Assert
+        verify(userManagementUseCase, times(1)).purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void purge_ShouldKeepUsersDeletedWithinRetention() {
+        // Arrange
+        settings.setRetention(Duration.ofHours(1));
+        var oldestKept = Instant.now().minus(Duration.ofHours(1));
+
+        // Act
+        userPurgeJob.purge();
+
+        // Assert
+        verify(userManagementUseCase).purgeDeletedUsers(
+            argThat(deletedBefore -> !deletedBefore.isAfter(oldestKept.plusSeconds(5)) && !deletedBefore.isBefore(oldestKept)),
+            eq(BATCH_SIZE));
+    }
+
+    @Test
+    void purge_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        settings.setEnabled(false);
+
+        // Act
+        userPurgeJob.purge();
+
+        // Assert
+        verify(userManagementUseCase, never()).purgeDeletedUsers(any(Instant.class), eq(BATCH_SIZE));
+    }
+}
@@ -0,0 +1,65 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.HotKeyRepository;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HotKeyTrackerTest {
+
+    @Mock
+    private HotKeyRepository hotKeyRepository;
+
+    private HotKeyTracker hotKeyTracker;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        var userCacheProperties = new UserCacheProperties();
+        userCacheProperties.getHotKeys().setEnabled(true);
+        hotKeyTracker = new HotKeyTracker(hotKeyRepository, userCacheProperties);
+        userId = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            hotKeyTracker.record(userId);
+        }
+    }
+
+    @Test
+    void persist_ShouldHalveCountsOncePersisted() {
+        // Act
+        hotKeyTracker.persist();
+        hotKeyTracker.persist();
+
+        // Assert
+        verify(hotKeyRepository).saveAll(Map.of(userId, 4L));
+        verify(hotKeyRepository).saveAll(Map.of(userId, 2L));
+    }
+
+    @Test
+    void persist_ShouldKeepCountsWhenPersistingFails() {
+        // Arrange
+        doThrow(new QueryTimeoutException("timeout"))
+            .doNothing()
+            .when(hotKeyRepository).saveAll(Map.of(userId, 4L));
+
+        // Act
+        hotKeyTracker.persist();
+        hotKeyTracker.persist();
+
+        // Assert
+        verify(hotKeyRepository, times(2)).saveAll(Map.of(userId, 4L));
+    }
+}
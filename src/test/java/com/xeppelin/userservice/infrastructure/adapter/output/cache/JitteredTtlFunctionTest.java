@@ -0,0 +1,85 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JitteredTtlFunctionTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+
+    @Test
+    void getTimeToLive_ShouldCutAtMostJitterOfConfiguredValue() {
+        // Arrange
+        var ttlFunction = new JitteredTtlFunction(TIME_TO_LIVE, 0.1);
+        var lowerBound = TIME_TO_LIVE.minusMinutes(6);
+        var timesToLive = new HashSet<Duration>();
+
+        // Act
+        IntStream.range(0, 1_000).forEach(i -> timesToLive.add(ttlFunction.getTimeToLive("key-" + i, "value")));
+
+        // Assert
+        timesToLive.forEach(timeToLive -> {
+            assertTrue(timeToLive.compareTo(lowerBound) >= 0, timeToLive + " is below the jitter bound");
+            assertTrue(timeToLive.compareTo(TIME_TO_LIVE) <= 0, timeToLive + " is above the configured value");
+        });
+        assertTrue(timesToLive.size() > 1, "entries written together expire at different instants");
+    }
+
+    @Test
+    void constructor_ShouldRejectJitterOfOneOrMore() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new JitteredTtlFunction(TIME_TO_LIVE, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredTtlFunction(TIME_TO_LIVE, 5.0));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredTtlFunction(TIME_TO_LIVE, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredTtlFunction(TIME_TO_LIVE, Double.NaN));
+    }
+
+    @Test
+    void getTimeToLive_ShouldNeverReachZeroJustBelowJitterOfOne() {
+        // Arrange
+        var timeToLive = Duration.ofMillis(3);
+        var ttlFunction = new JitteredTtlFunction(timeToLive, 0.999);
+
+        // Act & Assert
+        IntStream.range(0, 1_000).forEach(i ->
+            assertTrue(ttlFunction.getTimeToLive("key-" + i, "value").isPositive()));
+    }
+
+    @Test
+    void getTimeToLive_ShouldReturnConfiguredValueWithoutJitter() {
+        // Arrange
+        var ttlFunction = new JitteredTtlFunction(TIME_TO_LIVE, 0.0);
+
+        // Act & Assert
+        assertEquals(TIME_TO_LIVE, ttlFunction.getTimeToLive("key", "value"));
+    }
+
+    @Test
+    void getTimeToLive_ShouldKeepZeroTimeToLiveAsNoExpiry() {
+        // Arrange
+        var ttlFunction = new JitteredTtlFunction(Duration.ZERO, 0.1);
+
+        // Act & Assert
+        assertEquals(Duration.ZERO, ttlFunction.getTimeToLive("key", "value"));
+    }
+
+    @Test
+    void getTimeToLive_ShouldApplyJitterToNullValue() {
+        // Arrange
+        var ttlFunction = new JitteredTtlFunction(TIME_TO_LIVE, 0.1);
+
+        // Act
+        var timeToLive = ttlFunction.getTimeToLive("key", null);
+
+        // Assert
+        assertTrue(timeToLive.compareTo(TIME_TO_LIVE.minusMinutes(6)) >= 0);
+        assertTrue(timeToLive.compareTo(TIME_TO_LIVE) <= 0);
+    }
+}
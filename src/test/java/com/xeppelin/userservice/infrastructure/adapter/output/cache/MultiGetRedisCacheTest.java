@@ -0,0 +1,140 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MultiGetRedisCacheTest {
+
+    private static final RedisSerializer<Object> VALUE_SERIALIZER = RedisSerializer.json();
+
+    @Mock
+    private RedisCacheWriter cacheWriter;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private Map<String, byte[]> entries;
+
+    private MultiGetRedisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        entries = new HashMap<>();
+        var cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(VALUE_SERIALIZER));
+        cache = new MultiGetRedisCache("User", cacheWriter, cacheConfiguration, connectionFactory);
+    }
+
+    @Test
+    void getAll_ShouldReturnHitsAndMissesInKeyOrderInOneRoundTrip() {
+        // Arrange
+        stubMultiGet();
+        entries.put("User::1", VALUE_SERIALIZER.serialize("alice"));
+        entries.put("User::3", VALUE_SERIALIZER.serialize("carol"));
+
+        // Act
+        var result = cache.getAll(List.of(1, 2, 3));
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals("alice", result.get(0).get());
+        assertNull(result.get(1));
+        assertEquals("carol", result.get(2).get());
+        verify(connectionFactory, times(1)).getConnection();
+        verify(stringCommands, times(1)).mGet(any(byte[][].class));
+    }
+
+    @Test
+    void getAll_ShouldReportCachedNullAsHitWithoutValue() {
+        // Arrange
+        stubMultiGet();
+        entries.put("User::1", RedisSerializer.java().serialize(NullValue.INSTANCE));
+
+        // Act
+        var result = cache.getAll(List.of(1));
+
+        // Assert
+        assertNotNull(result.get(0), "a cached null is a hit");
+        assertNull(result.get(0).get());
+    }
+
+    @Test
+    void getAll_ShouldReportEveryKeyAsMissWithoutReply() {
+        // Arrange
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(stringCommands.mGet(any(byte[][].class))).thenReturn(null);
+
+        // Act
+        var result = cache.getAll(List.of(1, 2));
+
+        // Assert
+        assertEquals(Arrays.asList(null, null), result);
+    }
+
+    @Test
+    void getAll_ShouldTurnOnlyUnreadableEntryIntoMiss() {
+        // Arrange
+        stubMultiGet();
+        entries.put("User::1", "{not json".getBytes(StandardCharsets.UTF_8));
+        entries.put("User::2", VALUE_SERIALIZER.serialize("bob"));
+
+        // Act
+        var result = cache.getAll(List.of(1, 2));
+
+        // Assert
+        assertNull(result.get(0));
+        assertEquals("bob", result.get(1).get());
+    }
+
+    @Test
+    void getAll_ShouldNotReachRedisWithoutKeys() {
+        // Act
+        var result = cache.getAll(List.of());
+
+        // Assert
+        assertEquals(List.of(), result);
+        verifyNoInteractions(connectionFactory);
+    }
+
+    private void stubMultiGet() {
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(stringCommands.mGet(any(byte[][].class))).thenAnswer(invocation -> Arrays.stream(invocation.getArguments())
+            .map(key -> entries.get(new String((byte[]) key, StandardCharsets.UTF_8)))
+            .toList());
+    }
+}
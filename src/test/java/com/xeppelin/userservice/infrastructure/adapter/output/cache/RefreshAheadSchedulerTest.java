@@ -0,0 +1,131 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshAheadSchedulerTest {
+
+    private static final String CACHE_NAME = "User";
+
+    private static final String REDIS_KEY = "User::42";
+
+    private static final long ASYNC_TIMEOUT_MILLIS = 1_000;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private Runnable refresh;
+
+    private UserCacheProperties userCacheProperties;
+
+    private RefreshAheadScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        userCacheProperties = new UserCacheProperties();
+        userCacheProperties.getRefreshAhead().setEnabled(true);
+        userCacheProperties.getRefreshAhead().setThreshold(0.2);
+        var cacheProperties = new CacheProperties();
+        cacheProperties.getRedis().setTimeToLive(Duration.ofHours(1));
+        scheduler = new RefreshAheadScheduler(redisTemplate,
+            new CacheCircuitBreaker(5, Duration.ofSeconds(10), Duration.ofMillis(100)),
+            RedisCacheConfiguration.defaultCacheConfig(),
+            userCacheProperties,
+            cacheProperties,
+            new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    void onHit_ShouldRefreshEntryInsideRefreshWindow() {
+        // Arrange
+        when(redisTemplate.getExpire(REDIS_KEY, TimeUnit.MILLISECONDS)).thenReturn(Duration.ofMinutes(5).toMillis());
+
+        // Act
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+
+        // Assert
+        verify(refresh, timeout(ASYNC_TIMEOUT_MILLIS)).run();
+    }
+
+    @Test
+    void onHit_ShouldNotRefreshEntryOutsideRefreshWindow() {
+        // Arrange
+        when(redisTemplate.getExpire(REDIS_KEY, TimeUnit.MILLISECONDS)).thenReturn(Duration.ofMinutes(30).toMillis());
+
+        // Act
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+
+        // Assert
+        verify(redisTemplate, timeout(ASYNC_TIMEOUT_MILLIS)).getExpire(REDIS_KEY, TimeUnit.MILLISECONDS);
+        verify(refresh, after(100).never()).run();
+    }
+
+    @Test
+    void onHit_ShouldNotRefreshEntryWithoutExpiry() {
+        // Arrange
+        when(redisTemplate.getExpire(REDIS_KEY, TimeUnit.MILLISECONDS)).thenReturn(-1L);
+
+        // Act
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+
+        // Assert
+        verify(redisTemplate, timeout(ASYNC_TIMEOUT_MILLIS)).getExpire(REDIS_KEY, TimeUnit.MILLISECONDS);
+        verify(refresh, after(100).never()).run();
+    }
+
+    @Test
+    void onHit_ShouldCheckKeyOncePerCheckInterval() {
+        // Arrange
+        when(redisTemplate.getExpire(REDIS_KEY, TimeUnit.MILLISECONDS)).thenReturn(Duration.ofMinutes(5).toMillis());
+
+        // Act
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+
+        // Assert
+        verify(refresh, timeout(ASYNC_TIMEOUT_MILLIS)).run();
+        verify(redisTemplate, after(100).times(1)).getExpire(anyString(), any(TimeUnit.class));
+        verify(refresh, times(1)).run();
+    }
+
+    @Test
+    void onHit_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        userCacheProperties.getRefreshAhead().setEnabled(false);
+
+        // Act
+        scheduler.onHit(CACHE_NAME, 42, refresh);
+
+        // Assert
+        verifyNoInteractions(redisTemplate, refresh);
+    }
+}
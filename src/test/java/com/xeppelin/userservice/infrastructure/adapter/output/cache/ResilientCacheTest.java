@@ -0,0 +1,113 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientCacheTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+
+    @Mock
+    private Cache delegate;
+
+    private AtomicLong clock;
+
+    private CacheCircuitBreaker circuitBreaker;
+
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getName()).thenReturn("User");
+        clock = new AtomicLong();
+        circuitBreaker = new CacheCircuitBreaker(FAILURE_THRESHOLD, Duration.ofSeconds(10),
+            Duration.ofMillis(100), clock::get);
+        cache = new ResilientCache(delegate, circuitBreaker, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_ShouldReportMissWhenRedisFails() {
+        // Arrange
+        when(delegate.get("key")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // Act
+        var result = cache.get("key");
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void get_ShouldBypassRedisOnceCircuitIsOpen() {
+        // Arrange
+        when(delegate.get("key")).thenThrow(new RedisConnectionFailureException("down"));
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            cache.get("key");
+        }
+
+        // Act
+        var result = cache.get("key");
+
+        // Assert
+        assertNull(result);
+        assertEquals(CacheCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        verify(delegate, times(FAILURE_THRESHOLD)).get("key");
+    }
+
+    @Test
+    void get_ShouldLoadValueWhenRedisFails() {
+        // Arrange
+        when(delegate.get("key")).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(delegate).put(any(), any());
+
+        // Act
+        var result = cache.get("key", () -> "value");
+
+        // Assert
+        assertEquals("value", result);
+    }
+
+    @Test
+    void replayPendingWrites_ShouldEvictKeysWrittenDuringOutage() {
+        // Arrange
+        openCircuit();
+        cache.put("key", "value");
+        cache.evict("other");
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Act
+        cache.replayPendingWrites();
+
+        // Assert
+        verify(delegate, never()).put(any(), any());
+        verify(delegate).evict("key");
+        verify(delegate).evict("other");
+        assertEquals(0, cache.pendingEvictionCount());
+        assertEquals(CacheCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.domain.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("User", Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldCollapseConcurrentLoadsOfTheSameKey() throws Exception {
+        // Arrange
+        var callers = 8;
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(callers);
+        var results = new ArrayList<Future<String>>();
+
+        // Act
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "value";
+                })));
+            }
+            waitForCoalescedCallers(callers - 1);
+            release.countDown();
+            for (var result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(callers - 1, coalescedLoads());
+    }
+
+    @Test
+    void execute_ShouldPropagateLoaderFailureAndAllowRetry() {
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> singleFlight.execute("key", () -> {
+            throw new NotFoundException("User not found");
+        }));
+        assertEquals("value", singleFlight.execute("key", () -> "value"));
+    }
+
+    private double coalescedLoads() {
+        return meterRegistry.get("user.cache.loads").tag("outcome", "coalesced").counter().count();
+    }
+
+    private void waitForCoalescedCallers(int expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedLoads() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
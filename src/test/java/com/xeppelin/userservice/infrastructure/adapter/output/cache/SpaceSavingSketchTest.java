@@ -0,0 +1,48 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    void top_ShouldKeepHeavyHittersAmongManyDistinctKeys() {
+        // Arrange
+        var sketch = new SpaceSavingSketch<String>(10);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("hot-a");
+            sketch.offer("cold-" + i);
+            if (i % 2 == 0) {
+                sketch.offer("hot-b");
+            }
+        }
+
+        // Assert
+        assertEquals(10, sketch.size());
+        assertEquals(List.of("hot-a", "hot-b"), List.copyOf(sketch.top(2).keySet()));
+    }
+
+    @Test
+    void decay_ShouldHalveCountsAndDropKeysReachingZero() {
+        // Arrange
+        var sketch = new SpaceSavingSketch<String>(10);
+        for (int i = 0; i < 4; i++) {
+            sketch.offer("hot");
+        }
+        sketch.offer("once");
+
+        // Act
+        sketch.decay();
+
+        // Assert
+        assertEquals(2L, sketch.top(10).get("hot"));
+        assertFalse(sketch.top(10).containsKey("once"));
+        assertEquals(1, sketch.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    @Mock
+    private BiConsumer<String, String> invalidationPublisher;
+
+    private ConcurrentMapCache remoteCache;
+
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("User");
+        cache = new TwoTierCache(remoteCache, Caffeine.newBuilder().maximumSize(10).build(), invalidationPublisher);
+    }
+
+    @Test
+    void get_ShouldServeFromLocalTierAfterFirstRemoteHit() {
+        // Arrange
+        var key = UUID.randomUUID();
+        remoteCache.put(key, "value");
+
+        // Act
+        cache.get(key);
+        remoteCache.evict(key);
+        var result = cache.get(key);
+
+        // Assert
+        assertEquals("value", result.get());
+    }
+
+    @Test
+    void put_ShouldWriteBothTiersAndBroadcastInvalidation() {
+        // Arrange
+        var key = UUID.randomUUID();
+
+        // Act
+        cache.put(key, "value");
+
+        // Assert
+        assertEquals("value", remoteCache.get(key).get());
+        verify(invalidationPublisher).accept("User", key.toString());
+    }
+
+    @Test
+    void putIfAbsent_ShouldBroadcastInvalidationWhenWritten() {
+        // Arrange
+        var key = UUID.randomUUID();
+
+        // Act
+        var existing = cache.putIfAbsent(key, "value");
+
+        // Assert
+        assertNull(existing);
+        assertEquals("value", remoteCache.get(key).get());
+        verify(invalidationPublisher).accept("User", key.toString());
+    }
+
+    @Test
+    void putIfAbsent_ShouldNotBroadcastWhenAlreadyPresent() {
+        // Arrange
+        var key = UUID.randomUUID();
+        remoteCache.put(key, "present");
+
+        // Act
+        var existing = cache.putIfAbsent(key, "value");
+
+        // Assert
+        assertEquals("present", existing.get());
+        verify(invalidationPublisher, never()).accept("User", key.toString());
+    }
+
+    @Test
+    void evictLocal_ShouldFallBackToRemoteTier() {
+        // Arrange
+        var key = UUID.randomUUID();
+        cache.put(key, "stale");
+        remoteCache.put(key, "fresh");
+
+        // Act
+        cache.evictLocal(key.toString());
+        var result = cache.get(key);
+
+        // Assert
+        assertEquals("fresh", result.get());
+    }
+
+    @Test
+    void evict_ShouldRemoveBothTiersAndBroadcastInvalidation() {
+        // Arrange
+        var key = UUID.randomUUID();
+        cache.put(key, "value");
+
+        // Act
+        cache.evict(key);
+
+        // Assert
+        assertNull(cache.get(key));
+        verify(invalidationPublisher, times(2)).accept("User", key.toString());
+    }
+}
@@ -0,0 +1,126 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache;
+
+import com.xeppelin.userservice.domain.exception.NotFoundException;
+import com.xeppelin.userservice.domain.model.Address;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.infrastructure.config.properties.UserCacheProperties;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class UserCacheAdapterTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private UserCacheAdapter userCache;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        userCache = new UserCacheAdapter(cacheManager, mock(RefreshAheadScheduler.class),
+            mock(HotKeyTracker.class), new SimpleMeterRegistry(), new UserCacheProperties());
+        user = TestDataFactory.createValidUser();
+    }
+
+    @Test
+    void put_ShouldStoreOnlyIdPointersInSecondaryCaches() {
+        // Act
+        userCache.put(user);
+
+        // Assert
+        assertEquals(user.getId().toString(),
+            cacheManager.getCache(UserCacheAdapter.EMAIL_INDEX_CACHE).get(user.getEmail()).get());
+        assertEquals(user.getId().toString(),
+            cacheManager.getCache(UserCacheAdapter.PHONE_INDEX_CACHE).get(user.getAddress().getNormalizedPhoneNumber()).get());
+    }
+
+    @Test
+    void getByPhoneNumber_ShouldResolveNormalizedPhoneNumber() {
+        // Arrange
+        userCache.put(user);
+
+        // Act
+        var result = userCache.getByPhoneNumber(Address.normalizePhoneNumber(user.getAddress().getPhoneNumber().replace('-', ' ')), phoneNumber -> {
+            throw new AssertionError("Loader must not be called on a hit");
+        });
+
+        // Assert
+        assertSame(user, result);
+    }
+
+    @Test
+    void getByEmail_ShouldResolveThroughPrimaryEntry() {
+        // Arrange
+        userCache.put(user);
+
+        // Act
+        var result = userCache.getByEmail(user.getEmail(), email -> {
+            throw new AssertionError("Loader must not be called on a hit");
+        });
+
+        // Assert
+        assertSame(user, result);
+    }
+
+    @Test
+    void put_ShouldDropPreviousEmailPointerWhenEmailChanges() {
+        // Arrange
+        userCache.put(user);
+        var renamed = user.toBuilder().email("renamed@example.com").build();
+
+        // Act
+        userCache.put(renamed);
+
+        // Assert
+        assertNull(cacheManager.getCache(UserCacheAdapter.EMAIL_INDEX_CACHE).get(user.getEmail()));
+        assertSame(renamed, userCache.getByEmail("renamed@example.com", email -> user));
+    }
+
+    @Test
+    void getAllById_ShouldLoadOnlyMissingUsersAndKeepRequestOrder() {
+        // Arrange
+        userCache.put(user);
+        var other = user.toBuilder().id(UUID.randomUUID()).email("other@example.com").build();
+        var unknownId = UUID.randomUUID();
+        var loadedIds = new ArrayList<UUID>();
+
+        // Act
+        var result = userCache.getAllById(List.of(other.getId(), unknownId, user.getId()), ids -> {
+            loadedIds.addAll(ids);
+            return List.of(other);
+        });
+
+        // Assert
+        assertEquals(List.of(other, user), result);
+        assertEquals(List.of(other.getId(), unknownId), loadedIds);
+        assertSame(other, cacheManager.getCache(UserCacheAdapter.USER_CACHE).get(other.getId()).get());
+    }
+
+    @Test
+    void evict_ShouldMakeSecondaryLookupsMiss() {
+        // Arrange
+        userCache.put(user);
+
+        // Act
+        userCache.evict(user.getId());
+
+        // Assert
+        assertThrows(NotFoundException.class, () -> userCache.getByEmail(user.getEmail(), email -> {
+            throw new NotFoundException("User not found with email: " + email);
+        }));
+    }
+}
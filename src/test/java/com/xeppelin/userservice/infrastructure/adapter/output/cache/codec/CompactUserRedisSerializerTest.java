@@ -0,0 +1,121 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.cache.codec;
+
+import com.xeppelin.userservice.domain.model.Address;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactUserRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    private final CompactUserRedisSerializer serializer = new CompactUserRedisSerializer(jsonSerializer);
+
+    @Test
+    void roundTrip_ShouldPreserveAllUserFields() {
+        // Arrange
+        var user = TestDataFactory.createValidUser().toBuilder()
+            .version(42)
+            .address(TestDataFactory.createValidAddress().toBuilder().state("NY").country("USA").line2(null).build())
+            .build();
+
+        // Act
+        var result = assertInstanceOf(User.class, serializer.deserialize(serializer.serialize(user)));
+
+        // Assert
+        assertEquals(user.getId(), result.getId());
+        assertEquals(user.getName(), result.getName());
+        assertEquals(user.getEmail(), result.getEmail());
+        assertEquals(user.getRole(), result.getRole());
+        assertEquals(user.getStatus(), result.getStatus());
+        assertEquals(user.getVersion(), result.getVersion());
+        assertAddressEquals(user.getAddress(), result.getAddress());
+    }
+
+    @Test
+    void roundTrip_ShouldHandleUserWithoutAddress() {
+        // Arrange
+        var user = TestDataFactory.createValidUser().toBuilder().address(null).build();
+
+        // Act
+        var result = assertInstanceOf(User.class, serializer.deserialize(serializer.serialize(user)));
+
+        // Assert
+        assertEquals(user.getId(), result.getId());
+        assertNull(result.getAddress());
+    }
+
+    @Test
+    void deserialize_ShouldReadEntriesWrittenBeforeUserVersion() {
+        // Arrange: schema 1 had no version between the status and the address flag
+        var user = TestDataFactory.createValidUser().toBuilder().address(null).build();
+        var current = serializer.serialize(user);
+        var legacy = new byte[current.length - 1];
+        var versionOffset = current.length - 2;
+        System.arraycopy(current, 0, legacy, 0, versionOffset);
+        System.arraycopy(current, versionOffset + 1, legacy, versionOffset, 1);
+        legacy[1] = 1;
+
+        // Act
+        var result = assertInstanceOf(User.class, serializer.deserialize(legacy));
+
+        // Assert
+        assertEquals(user.getEmail(), result.getEmail());
+        assertEquals(user.getStatus(), result.getStatus());
+        assertNull(result.getVersion());
+        assertNull(result.getAddress());
+    }
+
+    @Test
+    void serialize_ShouldBeSmallerThanJson() {
+        // Arrange
+        var user = TestDataFactory.createValidUser();
+
+        // Act & Assert
+        assertTrue(serializer.serialize(user).length < jsonSerializer.serialize(user).length);
+    }
+
+    @Test
+    void roundTrip_ShouldEncodeIdPointersAsRawUuid() {
+        // Arrange
+        var pointer = UUID.randomUUID().toString();
+
+        // Act
+        var encoded = serializer.serialize(pointer);
+
+        // Assert
+        assertEquals(20, encoded.length);
+        assertEquals(pointer, serializer.deserialize(encoded));
+    }
+
+    @Test
+    void deserialize_ShouldFallBackToJsonForLegacyEntries() {
+        // Arrange
+        var user = TestDataFactory.createValidUser().toBuilder().address(null).build();
+
+        // Act
+        var result = assertInstanceOf(User.class, serializer.deserialize(jsonSerializer.serialize(user)));
+
+        // Assert
+        assertEquals(user.getEmail(), result.getEmail());
+    }
+
+    private static void assertAddressEquals(Address expected, Address actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getLine1(), actual.getLine1());
+        assertEquals(expected.getLine2(), actual.getLine2());
+        assertEquals(expected.getCity(), actual.getCity());
+        assertEquals(expected.getState(), actual.getState());
+        assertEquals(expected.getPostalCode(), actual.getPostalCode());
+        assertEquals(expected.getCountry(), actual.getCountry());
+        assertEquals(expected.getPhoneNumber(), actual.getPhoneNumber());
+    }
+}
@@ -0,0 +1,115 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.outbox;
+
+import com.xeppelin.userservice.domain.model.UserChangeEvent;
+import com.xeppelin.userservice.domain.model.UserChangeType;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter.UserOutboxAdapter;
+import com.xeppelin.userservice.infrastructure.config.properties.UserOutboxProperties;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private UserOutboxAdapter userOutboxAdapter;
+
+    @Mock
+    private UserChangeEventSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserOutboxProperties settings;
+
+    private UserOutboxRelay userOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        settings = new UserOutboxProperties();
+        settings.setBatchSize(BATCH_SIZE);
+        settings.setMaxBatchesPerRun(3);
+        userOutboxRelay = new UserOutboxRelay(userOutboxAdapter, sink, settings, transactionManager);
+    }
+
+    @Test
+    void relay_ShouldPublishEachBatchUntilOutboxIsDrained() {
+        // Arrange
+        var full = events(1, BATCH_SIZE);
+        var rest = events(BATCH_SIZE + 1, 1);
+        when(userOutboxAdapter.claim(BATCH_SIZE)).thenReturn(full, rest);
+
+        // Act
+        userOutboxRelay.relay();
+
+        // Assert
+        verify(sink).publish(full);
+        verify(sink).publish(rest);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void relay_ShouldNotPublishEmptyBatch() {
+        // Arrange
+        when(userOutboxAdapter.claim(BATCH_SIZE)).thenReturn(List.of());
+
+        // Act
+        userOutboxRelay.relay();
+
+        // Assert
+        verify(sink, never()).publish(any());
+    }
+
+    @Test
+    void relay_ShouldRollBackBatchAndGiveUpRunWhenSinkFails() {
+        // Arrange
+        var batch = events(1, BATCH_SIZE);
+        when(userOutboxAdapter.claim(BATCH_SIZE)).thenReturn(batch);
+        doThrow(new RedisConnectionFailureException("down")).when(sink).publish(batch);
+
+        // Act
+        userOutboxRelay.relay();
+
+        // Assert
+        verify(userOutboxAdapter, times(1)).claim(BATCH_SIZE);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void relay_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        settings.setEnabled(false);
+
+        // Act
+        userOutboxRelay.relay();
+
+        // Assert
+        verify(userOutboxAdapter, never()).claim(anyInt());
+    }
+
+    private static List<UserChangeEvent> events(long firstSequence, int count) {
+        return LongStream.range(firstSequence, firstSequence + count)
+            .mapToObj(sequence -> new UserChangeEvent(sequence, UUID.randomUUID(), UserChangeType.UPDATED, 1, Instant.now()))
+            .toList();
+    }
+}
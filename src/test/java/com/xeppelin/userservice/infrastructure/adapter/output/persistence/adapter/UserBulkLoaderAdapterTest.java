@@ -0,0 +1,185 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter;
+
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChangeEvent;
+import com.xeppelin.userservice.domain.model.UserChangeType;
+import com.xeppelin.userservice.domain.model.UserCreationResult;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.mapper.PersistenceMapperImpl;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserChangeRepository;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserSearchRepository;
+import com.xeppelin.userservice.infrastructure.config.DatabaseConfiguration;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DatabaseConfiguration.class, UserBulkLoaderAdapter.class, UserOutboxAdapter.class, UserPersistenceAdapter.class, UserSearchRepository.class, UserChangeRepository.class, PersistenceMapperImpl.class})
+class UserBulkLoaderAdapterTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @Autowired
+    private UserBulkLoaderAdapter userBulkLoaderAdapter;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @Autowired
+    private UserOutboxAdapter userOutboxAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void load_ShouldInsertUsersWithTheirAddresses() {
+        // Arrange
+        var users = List.of(newUser(), newUser(), newUser());
+
+        // Act
+        var rejections = userBulkLoaderAdapter.load(users);
+
+        // Assert
+        assertEquals(List.of(), rejections);
+        for (var user : users) {
+            var loaded = userPersistenceAdapter.findById(user.getId()).orElseThrow();
+            assertEquals(user.getEmail(), loaded.getEmail());
+            assertEquals(user.getAddress().getId(), loaded.getAddress().getId());
+            assertEquals(user.getAddress().getPostalCode(), loaded.getAddress().getPostalCode());
+        }
+    }
+
+    @Test
+    void load_ShouldStampUsersAtInsertRatherThanAtTransactionStart() {
+        // Arrange
+        var user = newUser();
+
+        // Act
+        userBulkLoaderAdapter.load(List.of(user));
+
+        // Assert
+        var stampedAtInsert = jdbcTemplate.queryForObject(
+            "SELECT created_date = last_modified_date AND last_modified_date > LOCALTIMESTAMP FROM users WHERE id = ?",
+            Boolean.class, user.getId());
+        assertTrue(stampedAtInsert);
+    }
+
+    @Test
+    void load_ShouldRejectTakenEmailsAndConstraintViolationsIndividually() {
+        // Arrange
+        var existing = userPersistenceAdapter.create(newUser());
+        var takenEmail = newUser().toBuilder().email(existing.getEmail()).build();
+        var invalidPostalCode = newUser().toBuilder()
+            .address(TestDataFactory.createValidAddress().toBuilder().postalCode("#1").build())
+            .build();
+        var valid = newUser();
+
+        // Act
+        var rejections = userBulkLoaderAdapter.load(List.of(takenEmail, invalidPostalCode, valid));
+
+        // Assert
+        assertEquals(List.of(0, 1), rejections.stream().map(UserCreationResult::index).toList());
+        assertEquals("User with email " + existing.getEmail() + " already exists", rejections.get(0).error());
+        assertEquals("Invalid postal code format", rejections.get(1).error());
+        assertFalse(userPersistenceAdapter.existsById(takenEmail.getId()));
+        assertFalse(userPersistenceAdapter.existsById(invalidPostalCode.getId()));
+        assertTrue(userPersistenceAdapter.existsById(valid.getId()));
+    }
+
+    @Test
+    void load_ShouldRecordCreationOfInsertedUsersOnly() {
+        // Arrange
+        var existing = userPersistenceAdapter.create(newUser());
+        var takenEmail = newUser().toBuilder().email(existing.getEmail()).build();
+        var first = newUser();
+        var second = newUser();
+
+        // Act
+        userBulkLoaderAdapter.load(List.of(first, takenEmail, second));
+
+        // Assert
+        var events = userOutboxAdapter.claim(10);
+        assertEquals(List.of(first.getId(), second.getId()), events.stream().map(UserChangeEvent::userId).toList());
+        assertTrue(events.stream().allMatch(event -> event.type() == UserChangeType.CREATED && event.version() == 0));
+    }
+
+    @Test
+    void load_ShouldRejectPhoneNumberTakenInAnotherFormat() {
+        // Arrange
+        var existing = userPersistenceAdapter.create(newUser());
+        var takenPhoneNumber = existing.getAddress().getPhoneNumber().replace('-', ' ');
+        var takenPhone = newUser().toBuilder()
+            .address(TestDataFactory.createValidAddress().toBuilder().phoneNumber(takenPhoneNumber).build())
+            .build();
+
+        // Act
+        var rejections = userBulkLoaderAdapter.load(List.of(takenPhone));
+
+        // Assert
+        assertEquals(List.of(UserCreationResult.rejected(0, "User with phone number " + takenPhoneNumber + " already exists")), rejections);
+        assertFalse(userPersistenceAdapter.existsById(takenPhone.getId()));
+    }
+
+    @Test
+    void load_ShouldRejectUserWhosePhoneNumberIsTakenOnlyAtInsert() {
+        // Arrange
+        // Staging checks phone numbers against stored addresses only, so the second user is caught by
+        // the insert itself, as it would be if a concurrent writer had taken the number meanwhile
+        var first = newUser();
+        var second = newUser().toBuilder()
+            .address(TestDataFactory.createValidAddress().toBuilder().phoneNumber(first.getAddress().getPhoneNumber()).build())
+            .build();
+        var third = newUser();
+
+        // Act
+        var rejections = userBulkLoaderAdapter.load(List.of(first, second, third));
+
+        // Assert
+        assertEquals(List.of(UserCreationResult.rejected(1,
+            "User with phone number " + first.getAddress().getPhoneNumber() + " already exists")), rejections);
+        assertTrue(userPersistenceAdapter.existsById(first.getId()));
+        assertFalse(userPersistenceAdapter.existsById(second.getId()));
+        assertTrue(userPersistenceAdapter.existsById(third.getId()));
+        var events = userOutboxAdapter.claim(10);
+        assertEquals(List.of(first.getId(), third.getId()), events.stream().map(UserChangeEvent::userId).toList());
+    }
+
+    @Test
+    void load_ShouldEscapeCopyControlCharacters() {
+        // Arrange
+        var user = newUser().toBuilder().name("Tab\there\\ and\nnew line").build();
+
+        // Act
+        var rejections = userBulkLoaderAdapter.load(List.of(user));
+
+        // Assert
+        assertEquals(List.of(), rejections);
+        assertEquals(user.getName(), userPersistenceAdapter.findById(user.getId()).orElseThrow().getName());
+    }
+
+    private static User newUser() {
+        return TestDataFactory.createValidUser().toBuilder()
+            .id(UUID.randomUUID())
+            .email(TestDataFactory.generateUniqueEmail())
+            .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter;
+
+import com.xeppelin.userservice.domain.model.UserChangeEvent;
+import com.xeppelin.userservice.domain.model.UserChangeType;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserOutboxAdapter.class)
+class UserOutboxAdapterTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @Autowired
+    private UserOutboxAdapter userOutboxAdapter;
+
+    @Test
+    void claim_ShouldReturnChangesInOutboxOrderAndRemoveThem() {
+        // Arrange
+        var deletedUserId = UUID.randomUUID();
+        var createdUsers = List.of(
+            TestDataFactory.createValidUser().toBuilder().id(UUID.randomUUID()).version(0).build(),
+            TestDataFactory.createValidUser().toBuilder().id(UUID.randomUUID()).version(0).build());
+        userOutboxAdapter.append(UserChangeType.DELETED, deletedUserId, null);
+        userOutboxAdapter.appendAll(UserChangeType.CREATED, createdUsers);
+
+        // Act
+        var events = userOutboxAdapter.claim(10);
+
+        // Assert
+        assertEquals(List.of(deletedUserId, createdUsers.get(0).getId(), createdUsers.get(1).getId()),
+            events.stream().map(UserChangeEvent::userId).toList());
+        assertEquals(List.of(UserChangeType.DELETED, UserChangeType.CREATED, UserChangeType.CREATED),
+            events.stream().map(UserChangeEvent::type).toList());
+        assertNull(events.get(0).version());
+        assertEquals(0, events.get(1).version());
+        assertTrue(events.get(0).sequence() < events.get(1).sequence());
+        assertNotNull(events.get(0).occurredAt());
+        assertEquals(List.of(), userOutboxAdapter.claim(10));
+    }
+
+    @Test
+    void claim_ShouldLeaveChangesBeyondLimitForNextBatch() {
+        // Arrange
+        var userIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        userIds.forEach(userId -> userOutboxAdapter.append(UserChangeType.UPDATED, userId, 1));
+
+        // Act
+        var first = userOutboxAdapter.claim(2);
+        var second = userOutboxAdapter.claim(2);
+
+        // Assert
+        assertEquals(userIds.subList(0, 2), first.stream().map(UserChangeEvent::userId).toList());
+        assertEquals(userIds.subList(2, 3), second.stream().map(UserChangeEvent::userId).toList());
+    }
+}
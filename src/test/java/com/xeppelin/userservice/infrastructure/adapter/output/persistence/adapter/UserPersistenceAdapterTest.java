@@ -0,0 +1,446 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter;
+
+import com.xeppelin.userservice.domain.exception.UserDomainException;
+import com.xeppelin.userservice.domain.exception.VersionConflictException;
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserChange;
+import com.xeppelin.userservice.domain.model.UserChangeCursor;
+import com.xeppelin.userservice.domain.model.UserFilter;
+import com.xeppelin.userservice.domain.model.UserPatch;
+import com.xeppelin.userservice.domain.model.UserRole;
+import com.xeppelin.userservice.domain.model.UserStatus;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.mapper.PersistenceMapperImpl;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserChangeRepository;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository.UserSearchRepository;
+import com.xeppelin.userservice.infrastructure.config.DatabaseConfiguration;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DatabaseConfiguration.class, UserPersistenceAdapter.class, UserSearchRepository.class, UserChangeRepository.class, PersistenceMapperImpl.class})
+class UserPersistenceAdapterTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        var savedUsers = userPersistenceAdapter.saveAll(IntStream.range(0, PAGE_SIZE * 3)
+            .mapToObj(i -> organizer())
+            .toList());
+        savedUser = savedUsers.get(0);
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_ShouldLoadPageWithAddressesInTwoStatements() {
+        // Act
+        var page = userPersistenceAdapter.findAll(PageRequest.of(1, PAGE_SIZE));
+
+        // Assert
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        page.forEach(user -> assertNotNull(user.getAddress()));
+        assertEquals(2, statistics.getPrepareStatementCount(), "one select for the page and one count");
+        assertEquals(0, statistics.getEntityLoadCount(), "rows are projected, not hydrated as entities");
+    }
+
+    @Test
+    void findById_ShouldProjectUserWithAddressWithoutLoadingEntities() {
+        // Act
+        var user = userPersistenceAdapter.findById(savedUser.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(savedUser.getEmail(), user.getEmail());
+        assertEquals(savedUser.getAddress().getId(), user.getAddress().getId());
+        assertEquals(savedUser.getAddress().getPhoneNumber(), user.getAddress().getPhoneNumber());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount(), "rows are projected, not hydrated as entities");
+    }
+
+    @Test
+    void findById_ShouldReturnEmptyForUnknownUser() {
+        // Act & Assert
+        assertTrue(userPersistenceAdapter.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void create_ShouldInsertInOneStatementPerTable() {
+        // Act
+        var user = userPersistenceAdapter.create(organizer());
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount(), "one insert into users and one into addresses, no select");
+        assertTrue(userPersistenceAdapter.existsById(user.getId()));
+    }
+
+    @Test
+    void create_ShouldRejectTakenEmailThroughUniqueConstraint() {
+        // Arrange
+        var duplicate = organizer().toBuilder()
+            .email(savedUser.getEmail())
+            .build();
+
+        // Act & Assert
+        var exception = assertThrows(UserDomainException.class, () -> userPersistenceAdapter.create(duplicate));
+        assertEquals("User with email " + savedUser.getEmail() + " already exists", exception.getMessage());
+    }
+
+    @Test
+    void create_ShouldRejectEmailDifferingOnlyByCase() {
+        // Arrange
+        var upperCaseEmail = savedUser.getEmail().toUpperCase(Locale.ROOT);
+        var duplicate = organizer().toBuilder()
+            .email(upperCaseEmail)
+            .build();
+
+        // Act & Assert
+        var exception = assertThrows(UserDomainException.class, () -> userPersistenceAdapter.create(duplicate));
+        assertEquals("User with email " + upperCaseEmail + " already exists", exception.getMessage());
+    }
+
+    @Test
+    void findByEmail_ShouldIgnoreCase() {
+        // Act
+        var user = userPersistenceAdapter.findByEmail(savedUser.getEmail().toUpperCase(Locale.ROOT)).orElseThrow();
+
+        // Assert
+        assertEquals(savedUser.getId(), user.getId());
+        assertTrue(userPersistenceAdapter.existsByEmail(savedUser.getEmail().toUpperCase(Locale.ROOT)));
+    }
+
+    @Test
+    void findByPhoneNumber_ShouldMatchWhateverTheFormatting() {
+        // Arrange
+        var user = organizer();
+        user.getAddress().updatePhoneNumber("+1 555 010 9999");
+        userPersistenceAdapter.create(user);
+        entityManager.clear();
+
+        // Act
+        var found = userPersistenceAdapter.findByPhoneNumber("+1-555-010-9999").orElseThrow();
+
+        // Assert
+        assertEquals(user.getId(), found.getId());
+        assertEquals("+1 555 010 9999", found.getAddress().getPhoneNumber());
+        var storedNormalizedPhoneNumber = entityManager
+            .createNativeQuery("SELECT phone_number_normalized FROM addresses WHERE id = :id", String.class)
+            .setParameter("id", user.getAddress().getId())
+            .getSingleResult();
+        assertEquals(user.getAddress().getNormalizedPhoneNumber(), storedNormalizedPhoneNumber, "database and domain normalize alike");
+    }
+
+    @Test
+    void findByPhoneNumber_ShouldFindNothingWithoutDigits() {
+        // Act & Assert
+        assertTrue(userPersistenceAdapter.findByPhoneNumber("abc").isEmpty());
+        assertTrue(userPersistenceAdapter.findByPhoneNumber("").isEmpty());
+    }
+
+    @Test
+    void create_ShouldRejectTakenPhoneNumberThroughUniqueIndex() {
+        // Arrange
+        var takenPhoneNumber = savedUser.getAddress().getPhoneNumber().replace('-', ' ');
+        var duplicate = organizer();
+        duplicate.getAddress().updatePhoneNumber(takenPhoneNumber);
+
+        // Act & Assert
+        var exception = assertThrows(UserDomainException.class, () -> userPersistenceAdapter.create(duplicate));
+        assertEquals("User with phone number " + takenPhoneNumber + " already exists", exception.getMessage());
+    }
+
+    @Test
+    void patch_ShouldUpdateChangedColumnsInOneStatementAndBumpVersion() {
+        // Act
+        var patched = userPersistenceAdapter.patch(savedUser.getId(), new UserPatch(null, null, null, UserStatus.SUSPENDED, 0));
+
+        // Assert
+        assertTrue(patched);
+        assertEquals(1, statistics.getPrepareStatementCount(), "a single conditional update, no read before write");
+        var user = userPersistenceAdapter.findById(savedUser.getId()).orElseThrow();
+        assertEquals(UserStatus.SUSPENDED, user.getStatus());
+        assertEquals(savedUser.getEmail(), user.getEmail());
+        assertEquals(1, user.getVersion());
+    }
+
+    @Test
+    void patch_ShouldNotUpdateStaleVersion() {
+        // Act
+        var patched = userPersistenceAdapter.patch(savedUser.getId(), new UserPatch("New Name", null, null, null, 7));
+
+        // Assert
+        assertFalse(patched);
+        assertEquals(savedUser.getName(), userPersistenceAdapter.findById(savedUser.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void patch_ShouldNotUpdateVersionReadBeforeSave() {
+        // Arrange
+        var readUser = userPersistenceAdapter.findById(savedUser.getId()).orElseThrow();
+        var updatedUser = userPersistenceAdapter.save(readUser.toBuilder().name("Put Name").build());
+        entityManager.clear();
+
+        // Act
+        var patched = userPersistenceAdapter.patch(savedUser.getId(),
+            new UserPatch("Patch Name", null, null, null, readUser.getVersion()));
+
+        // Assert
+        assertEquals(readUser.getVersion() + 1, updatedUser.getVersion());
+        assertFalse(patched);
+        assertEquals("Put Name", userPersistenceAdapter.findById(savedUser.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void save_ShouldRejectStaleVersion() {
+        // Arrange
+        var readUser = userPersistenceAdapter.findById(savedUser.getId()).orElseThrow();
+        userPersistenceAdapter.patch(savedUser.getId(), new UserPatch("Patch Name", null, null, null, readUser.getVersion()));
+        entityManager.clear();
+
+        // Act & Assert
+        assertThrows(VersionConflictException.class, () ->
+            userPersistenceAdapter.save(readUser.toBuilder().name("Put Name").build()));
+    }
+
+    @Test
+    void patch_ShouldRejectTakenEmailThroughUniqueConstraint() {
+        // Arrange
+        var otherUser = userPersistenceAdapter.create(organizer());
+
+        // Act & Assert
+        assertThrows(UserDomainException.class, () ->
+            userPersistenceAdapter.patch(otherUser.getId(), new UserPatch(null, savedUser.getEmail(), null, null, 0)));
+    }
+
+    @Test
+    void existsByEmail_ShouldTellWhetherEmailIsTaken() {
+        // Act & Assert
+        assertTrue(userPersistenceAdapter.existsByEmail(savedUser.getEmail()));
+        assertFalse(userPersistenceAdapter.existsByEmail(TestDataFactory.generateUniqueEmail()));
+        assertFalse(userPersistenceAdapter.existsById(UUID.randomUUID()));
+    }
+
+    @Test
+    void markDeleted_ShouldHideUserFromReadsAndFreeItsEmailAndPhoneNumber() {
+        // Act
+        var marked = userPersistenceAdapter.markDeleted(savedUser.getId());
+
+        // Assert
+        assertTrue(marked);
+        assertFalse(userPersistenceAdapter.markDeleted(savedUser.getId()), "already deleted");
+        assertTrue(userPersistenceAdapter.findById(savedUser.getId()).isEmpty());
+        assertFalse(userPersistenceAdapter.existsByEmail(savedUser.getEmail()));
+        assertEquals(PAGE_SIZE * 3 - 1, userPersistenceAdapter.findAll(PageRequest.of(0, PAGE_SIZE)).getTotalElements());
+        var successor = organizer().toBuilder().email(savedUser.getEmail()).build();
+        successor.getAddress().updatePhoneNumber(savedUser.getAddress().getPhoneNumber());
+        assertNotNull(userPersistenceAdapter.create(successor));
+        assertEquals(successor.getId(), userPersistenceAdapter.findByPhoneNumber(savedUser.getAddress().getPhoneNumber())
+            .orElseThrow()
+            .getId());
+    }
+
+    @Test
+    void purgeDeleted_ShouldRemoveDeletedUsersWithTheirAddressesInBatches() {
+        // Arrange
+        var deletedUsers = userPersistenceAdapter.findAll(PageRequest.of(0, 3)).getContent();
+        deletedUsers.forEach(user -> userPersistenceAdapter.markDeleted(user.getId()));
+
+        // Act
+        var withinRetention = userPersistenceAdapter.purgeDeleted(Instant.now().minus(Duration.ofHours(1)), 2);
+        var firstBatch = userPersistenceAdapter.purgeDeleted(Instant.now(), 2);
+        var secondBatch = userPersistenceAdapter.purgeDeleted(Instant.now(), 2);
+
+        // Assert
+        assertEquals(0, withinRetention);
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        assertEquals(0, userPersistenceAdapter.purgeDeleted(Instant.now(), 2));
+        var remainingRows = entityManager.createNativeQuery("SELECT count(*) FROM users u JOIN addresses a ON a.user_id = u.id", Long.class)
+            .getSingleResult();
+        assertEquals(PAGE_SIZE * 3L - 3, remainingRows);
+    }
+
+    @Test
+    void findChangedAfter_ShouldWalkChangesInOrderAndReportDeletions() {
+        // Arrange
+        userPersistenceAdapter.markDeleted(savedUser.getId());
+        var until = Instant.now().plusSeconds(60);
+
+        // Act
+        var changes = new ArrayList<UserChange>();
+        UserChangeCursor cursor = null;
+        boolean hasMore;
+        do {
+            var slice = userPersistenceAdapter.findChangedAfter(cursor, until, PAGE_SIZE);
+            assertTrue(slice.changes().size() <= PAGE_SIZE);
+            changes.addAll(slice.changes());
+            cursor = slice.nextCursor();
+            hasMore = slice.hasMore();
+        } while (hasMore);
+
+        // Assert
+        var order = Comparator.comparing(UserChange::modifiedDate).thenComparing(UserChange::id);
+        assertEquals(changes.stream().sorted(order).toList(), changes);
+        var deleted = changes.stream().filter(change -> change.id().equals(savedUser.getId())).findFirst().orElseThrow();
+        assertTrue(deleted.isDeleted());
+        assertEquals(1, changes.stream().filter(UserChange::isDeleted).count());
+        assertEquals(userPersistenceAdapter.findAll(PageRequest.of(0, 1)).getTotalElements() + 1, changes.size());
+        var caughtUp = userPersistenceAdapter.findChangedAfter(cursor, until, PAGE_SIZE);
+        assertEquals(List.of(), caughtUp.changes());
+        assertEquals(cursor, caughtUp.nextCursor());
+    }
+
+    @Test
+    void findChangedAfter_ShouldReportUserWhoseAddressAloneChanged() {
+        // Arrange
+        var cursor = userPersistenceAdapter.findChangedAfter(null, Instant.now(), 1000).nextCursor();
+        var until = Instant.now().plusSeconds(60);
+        entityManager.createNativeQuery("UPDATE addresses SET city = 'Boston', last_modified_date = :modified WHERE user_id = :id")
+            .setParameter("modified", Timestamp.from(Instant.now().plusSeconds(1)))
+            .setParameter("id", savedUser.getId())
+            .executeUpdate();
+
+        // Act
+        var slice = userPersistenceAdapter.findChangedAfter(cursor, until, PAGE_SIZE);
+
+        // Assert
+        assertEquals(List.of(savedUser.getId()), slice.changes().stream().map(UserChange::id).toList());
+        assertEquals("Boston", slice.changes().get(0).user().getAddress().getCity());
+    }
+
+    @Test
+    void findChangedAfter_ShouldHoldBackChangesFromUntil() {
+        // Act
+        var slice = userPersistenceAdapter.findChangedAfter(null, Instant.EPOCH, PAGE_SIZE);
+
+        // Assert
+        assertEquals(List.of(), slice.changes());
+        assertEquals(new UserChangeCursor(Instant.EPOCH, new UUID(0, 0)), slice.nextCursor());
+        assertFalse(slice.hasMore());
+    }
+
+    @Test
+    void findChangedAfter_ShouldMoveCaughtUpCursorToUntil() {
+        // Arrange
+        var until = Instant.now().plusSeconds(60);
+        var lastChange = userPersistenceAdapter.findChangedAfter(null, until, 1000).changes().getLast();
+        var later = until.plusSeconds(3600);
+
+        // Act
+        var slice = userPersistenceAdapter.findChangedAfter(new UserChangeCursor(lastChange.modifiedDate(), lastChange.id()),
+            later, PAGE_SIZE);
+
+        // Assert
+        assertEquals(List.of(), slice.changes());
+        assertEquals(new UserChangeCursor(later.truncatedTo(ChronoUnit.MICROS), new UUID(0, 0)), slice.nextCursor());
+    }
+
+    @Test
+    void findByRoleAndStatus_ShouldLoadPageWithAddressesInTwoStatements() {
+        // Act
+        var page = userPersistenceAdapter.findByRoleAndStatus(UserRole.ORGANIZER, UserStatus.ACTIVE, PageRequest.of(1, PAGE_SIZE));
+
+        // Assert
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        page.forEach(user -> assertNotNull(user.getAddress()));
+        assertEquals(2, statistics.getPrepareStatementCount(), "one select for the page and one count");
+    }
+
+    @Test
+    void findSliceByRoleAndStatus_ShouldLoadSliceWithAddressesInOneStatement() {
+        // Act
+        var slice = userPersistenceAdapter.findSliceByRoleAndStatus(UserRole.ORGANIZER, UserStatus.ACTIVE, PageRequest.of(1, PAGE_SIZE));
+
+        // Assert
+        assertEquals(PAGE_SIZE, slice.getNumberOfElements());
+        slice.forEach(user -> assertNotNull(user.getAddress()));
+        assertEquals(1, statistics.getPrepareStatementCount(), "one select and no count");
+    }
+
+    @Test
+    void streamAll_ShouldStreamMatchingUsersWithoutLoadingEntities() {
+        // Arrange
+        var filter = new UserFilter(UserRole.ORGANIZER, UserStatus.ACTIVE, "Test Country");
+
+        // Act
+        long count;
+        try (var users = userPersistenceAdapter.streamAll(filter)) {
+            count = users.peek(user -> assertNotNull(user.getAddress())).count();
+        }
+
+        // Assert
+        assertEquals(PAGE_SIZE * 3, count);
+        assertEquals(0, statistics.getEntityLoadCount(), "rows are projected, not loaded as entities");
+    }
+
+    @Test
+    void streamAll_ShouldSkipUsersNotMatchingFilter() {
+        // Act
+        long count;
+        try (var users = userPersistenceAdapter.streamAll(new UserFilter(null, null, "Elsewhere"))) {
+            count = users.count();
+        }
+
+        // Assert
+        assertEquals(0, count);
+    }
+
+    private static User organizer() {
+        var address = TestDataFactory.createValidAddress();
+        var user = TestDataFactory.createValidUser().toBuilder()
+            .email(TestDataFactory.generateUniqueEmail())
+            .role(UserRole.ORGANIZER)
+            .address(address)
+            .build();
+        address.updateUser(user);
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReplicaPool firstReplica;
+
+    private ReplicaPool secondReplica;
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        firstReplica = new ReplicaPool("replica-1", mock(HikariDataSource.class));
+        secondReplica = new ReplicaPool("replica-2", mock(HikariDataSource.class));
+        routingDataSource = new ReadReplicaRoutingDataSource(mock(DataSource.class), List.of(firstReplica, secondReplica));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldRouteWritesToPrimary() {
+        // Arrange
+        firstReplica.markHealthy(0);
+
+        // Act & Assert
+        assertEquals(ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldSpreadReadsOverHealthyReplicas() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        firstReplica.markHealthy(0);
+        secondReplica.markHealthy(10);
+
+        // Act
+        var first = routingDataSource.determineCurrentLookupKey();
+        var second = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals("replica-1", first);
+        assertEquals("replica-2", second);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldSkipUnhealthyReplicas() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        firstReplica.markUnhealthy(60_000);
+        secondReplica.markHealthy(0);
+
+        // Act & Assert
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-2", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldFallBackToPrimaryWhenNoReplicaIsHealthy() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertEquals(ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+}
@@ -0,0 +1,121 @@
+package com.xeppelin.userservice.infrastructure.adapter.output.persistence.repository;
+
+import com.xeppelin.userservice.domain.model.User;
+import com.xeppelin.userservice.domain.model.UserSearchCursor;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.adapter.UserPersistenceAdapter;
+import com.xeppelin.userservice.infrastructure.adapter.output.persistence.mapper.PersistenceMapperImpl;
+import com.xeppelin.userservice.infrastructure.config.DatabaseConfiguration;
+import com.xeppelin.userservice.integration.TestDataFactory;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DatabaseConfiguration.class, UserSearchRepository.class, UserChangeRepository.class, UserPersistenceAdapter.class, PersistenceMapperImpl.class})
+class UserSearchRepositoryTest {
+
+    private static final int SEEDED_USERS = 50_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+
+    @Autowired
+    private UserSearchRepository userSearchRepository;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private User jonathanSmith;
+
+    private User jonathonSmith;
+
+    @BeforeEach
+    void setUp() {
+        jonathanSmith = userPersistenceAdapter.create(newUser("Jonathan Smith", "jonathan.smith@example.com"));
+        jonathonSmith = userPersistenceAdapter.create(newUser("Jonathon Smith", "j.smith@example.com"));
+        userPersistenceAdapter.create(newUser("Alice Brown", "alice.brown@example.com"));
+    }
+
+    @Test
+    void search_ShouldRankClosestMatchFirstAndSkipUnrelatedUsers() {
+        // Act
+        var matches = userSearchRepository.search("jonathan smith", null, 10);
+
+        // Assert
+        assertEquals(List.of(jonathanSmith.getId(), jonathonSmith.getId()), ids(matches));
+        assertTrue(matches.get(0).score() > matches.get(1).score());
+    }
+
+    @Test
+    void search_ShouldResumeAfterCursorOnEqualScores() {
+        // Arrange
+        var all = ids(userSearchRepository.search("smith", null, 10));
+        var first = userSearchRepository.search("smith", null, 1).get(0);
+
+        // Act
+        var next = userSearchRepository.search("smith", new UserSearchCursor(first.score(), first.row().id()), 10);
+
+        // Assert
+        assertEquals(2, all.size());
+        assertEquals(all.get(0), first.row().id());
+        assertEquals(all.subList(1, 2), ids(next));
+    }
+
+    @Test
+    void search_ShouldUseTrigramIndexesOnLargeTable() {
+        // Arrange
+        namedParameterJdbcTemplate.update("""
+            INSERT INTO users (id, name, email, role, status)
+            SELECT gen_random_uuid(), 'User ' || md5(i::text), 'user' || i || '@example.com', 'ATTENDEE', 'ACTIVE'
+            FROM generate_series(1, :count) AS i
+            """, new MapSqlParameterSource("count", SEEDED_USERS));
+        namedParameterJdbcTemplate.getJdbcTemplate().execute("ANALYZE users");
+        var parameters = new MapSqlParameterSource()
+            .addValue("query", "jonathan smith")
+            .addValue("limit", 20);
+
+        // Act
+        var plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+            "EXPLAIN " + UserSearchRepository.searchSql(false), parameters, String.class));
+
+        // Assert
+        assertTrue(plan.contains("idx_users_name_trgm"), plan);
+        assertTrue(plan.contains("idx_users_email_trgm"), plan);
+        assertFalse(plan.contains("Seq Scan on users"), plan);
+    }
+
+    private static List<UUID> ids(List<UserSearchRepository.Match> matches) {
+        return matches.stream().map(match -> match.row().id()).toList();
+    }
+
+    private static User newUser(String name, String email) {
+        return TestDataFactory.createValidUser().toBuilder()
+            .id(UUID.randomUUID())
+            .name(name)
+            .email(email)
+            .build();
+    }
+}
@@ -8,6 +8,7 @@ import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.Addres
 import com.xeppelin.userservice.infrastructure.adapter.input.rest.request.UserRequest;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Factory class for creating test data objects used in integration tests.
@@ -15,6 +16,8 @@ import java.util.UUID;
  */
 public class TestDataFactory {
 
+    private static final AtomicInteger PHONE_NUMBER_SEQUENCE = new AtomicInteger();
+
     public static UserRequest createValidUserRequest() {
         return new UserRequest(
             "John Doe",
@@ -163,7 +166,7 @@ public class TestDataFactory {
             .state("Test State")
             .postalCode("12345")
             .country("Test Country")
-            .phoneNumber("+1-555-123-4567")
+            .phoneNumber(generateUniquePhoneNumber())
             .build();
     }
 
@@ -171,6 +174,10 @@ public class TestDataFactory {
         return "test-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
     }
 
+    public static String generateUniquePhoneNumber() {
+        return String.format("+1-555-%07d", PHONE_NUMBER_SEQUENCE.incrementAndGet());
+    }
+
     public static String generateInvalidUuid() {
         return "invalid-uuid-format";
     }